@@ -2,14 +2,25 @@ package edu.cnm.deepdive.codebreaker.app;
 
 import android.app.Application;
 import dagger.hilt.android.HiltAndroidApp;
+import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
+import java.io.File;
 
 @HiltAndroidApp
 public class CodebreakerApplication extends Application {
 
+  private static final String CACHE_DIRECTORY_PROPERTY = "codebreaker.cacheDirectory";
+  private static final String CACHE_SUBDIRECTORY = "http";
+  private static final String BURST_MAX_DELAY_PROPERTY = "codebreaker.burstMaxDelayMillis";
+  private static final String BURST_MAX_DELAY_MILLIS = "20000";
+
   // Invoked when application loads.
   @Override
   public void onCreate() {
     super.onCreate();
+    System.setProperty(
+        CACHE_DIRECTORY_PROPERTY, new File(getCacheDir(), CACHE_SUBDIRECTORY).getAbsolutePath());
+    System.setProperty(BURST_MAX_DELAY_PROPERTY, BURST_MAX_DELAY_MILLIS);
+    CodebreakerService.getInstance().warmUp();
     // TODO: 2026-03-09 Perform any necessary app-level configuration.
   }
 
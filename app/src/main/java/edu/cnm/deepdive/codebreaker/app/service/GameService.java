@@ -2,6 +2,10 @@ package edu.cnm.deepdive.codebreaker.app.service;
 
 import edu.cnm.deepdive.codebreaker.api.model.Game;
 import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import edu.cnm.deepdive.codebreaker.client.service.GameQuery;
+import edu.cnm.deepdive.codebreaker.client.service.RequestPriority;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -27,6 +31,34 @@ public interface GameService {
    */
   CompletableFuture<Game> getGame(String gameId);
 
+  /**
+   * Retrieves the games with the specified IDs in a single request, and updates their summaries.
+   *
+   * @param gameIds The unique identifiers of the games to be retrieved.
+   * @return A {@link CompletableFuture} that will complete with the retrieved {@link Game} objects.
+   */
+  CompletableFuture<List<Game>> getGames(Collection<String> gameIds);
+
+  /**
+   * Refreshes the local summary of the game with the specified ID, using the lightweight status
+   * representation of the game (i.e. without downloading its guess history). The request is issued
+   * in the {@link RequestPriority#BACKGROUND} lane.
+   *
+   * @param gameId The unique identifier of the game.
+   * @return A {@link CompletableFuture} that will complete when the summary has been saved.
+   */
+  CompletableFuture<Void> refreshSummary(String gameId);
+
+  /**
+   * Retrieves all games matching the specified query from the service, page by page, and creates or
+   * updates a local summary for each. This is intended for rebuilding the local history (e.g. on a
+   * fresh install); requests are issued in the {@link RequestPriority#BACKGROUND} lane.
+   *
+   * @param query The {@link GameQuery} filters and page size.
+   * @return A {@link CompletableFuture} that will complete when all summaries have been saved.
+   */
+  CompletableFuture<Void> restoreSummaries(GameQuery query);
+
   /**
    * Deletes the game with the specified ID.
    *
@@ -36,7 +68,10 @@ public interface GameService {
   CompletableFuture<Void> deleteGame(String gameId);
 
   /**
-   * Submits a guess for the specified game.
+   * Submits a guess for the specified game, on the condition that the game still has exactly as
+   * many guesses as {@code game}. If it does not (e.g. because a guess was submitted from another
+   * device), the summary is brought up to date and the returned future fails with a
+   * {@link edu.cnm.deepdive.codebreaker.client.service.GameConflictException}.
    *
    * @param game  The {@link Game} for which the guess is being submitted.
    * @param guess The {@link Guess} object containing the guess text.
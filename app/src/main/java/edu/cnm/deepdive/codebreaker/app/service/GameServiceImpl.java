@@ -4,9 +4,17 @@ import edu.cnm.deepdive.codebreaker.api.model.Game;
 import edu.cnm.deepdive.codebreaker.api.model.Guess;
 import edu.cnm.deepdive.codebreaker.app.service.repository.GameSummaryRepository;
 import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
+import edu.cnm.deepdive.codebreaker.client.service.GameConflictException;
+import edu.cnm.deepdive.codebreaker.client.service.GameQuery;
+import edu.cnm.deepdive.codebreaker.client.service.RequestPriority;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 @Singleton
 public class GameServiceImpl implements GameService {
@@ -36,6 +44,41 @@ public class GameServiceImpl implements GameService {
             .thenApply((ignored) -> retrievedGame));
   }
 
+  @Override
+  public CompletableFuture<List<Game>> getGames(Collection<String> gameIds) {
+    return service
+        .getGames(gameIds)
+        .thenCompose((retrievedGames) -> CompletableFuture.allOf(
+                retrievedGames
+                    .stream()
+                    .map(repository::summarize)
+                    .toArray(CompletableFuture[]::new))
+            .thenApply((ignored) -> retrievedGames));
+  }
+
+  @Override
+  public CompletableFuture<Void> refreshSummary(String gameId) {
+    return service
+        .withPriority(RequestPriority.BACKGROUND)
+        .getGameStatus(gameId)
+        .thenCompose((status) -> repository.summarize(status));
+  }
+
+  @Override
+  public CompletableFuture<Void> restoreSummaries(GameQuery query) {
+    return CompletableFuture
+        .supplyAsync(() -> {
+          List<CompletableFuture<Void>> summaries = new ArrayList<>();
+          service
+              .withPriority(RequestPriority.BACKGROUND)
+              .listGames(query)
+              .forEachRemaining((game) -> summaries.add(repository.summarize(game)));
+          return summaries;
+        })
+        .thenCompose((summaries) ->
+            CompletableFuture.allOf(summaries.toArray(CompletableFuture[]::new)));
+  }
+
   @Override
   public CompletableFuture<Void> deleteGame(String gameId) {
     return service
@@ -48,9 +91,13 @@ public class GameServiceImpl implements GameService {
 
   @Override
   public CompletableFuture<Guess> submitGuess(Game game, Guess guess) {
+    //noinspection DataFlowIssue
     return service
-        .submitGuess(game, guess)
-        .thenCompose((processedGuess) -> updateSummaryForGuess(game, processedGuess));
+        .submitGuess(game, guess, game.getGuesses().size())
+        .handle((processedGuess, throwable) -> (throwable == null)
+            ? updateSummaryForGuess(game, processedGuess)
+            : updateSummaryForConflict(game, throwable))
+        .thenCompose(Function.identity());
   }
 
   @Override
@@ -60,6 +107,11 @@ public class GameServiceImpl implements GameService {
 
   private CompletableFuture<Guess> updateSummaryForGuess(Game game, Guess processedGuess) {
     if (Boolean.TRUE.equals(processedGuess.getSolution())) {
+      Game solvedGame = processedGuess.getGame();
+      return (solvedGame != null)
+          ? repository.summarize(solvedGame).thenApply((ignored) -> processedGuess)
+          : CompletableFuture.completedFuture(processedGuess);
+    } else if (isRecorded(game, processedGuess)) {
       return CompletableFuture.completedFuture(processedGuess);
     } else {
       game.getGuesses().add(processedGuess);
@@ -68,4 +120,26 @@ public class GameServiceImpl implements GameService {
           .thenApply((ignored) -> processedGuess);
     }
   }
+
+  private CompletableFuture<Guess> updateSummaryForConflict(Game game, Throwable throwable) {
+    Throwable cause = (throwable instanceof CompletionException && throwable.getCause() != null)
+        ? throwable.getCause()
+        : throwable;
+    CompletableFuture<Guess> failed = new CompletableFuture<>();
+    failed.completeExceptionally(cause);
+    return (cause instanceof GameConflictException)
+        ? repository
+            .summarize(((GameConflictException) cause).applyTo(game))
+            .thenCompose((ignored) -> failed)
+        : failed;
+  }
+
+  private static boolean isRecorded(Game game, Guess guess) {
+    //noinspection DataFlowIssue
+    return game
+        .getGuesses()
+        .stream()
+        .anyMatch((recorded) -> recorded.getId().equals(guess.getId()));
+  }
+
 }
@@ -2,6 +2,7 @@ package edu.cnm.deepdive.codebreaker.app.service.repository;
 
 import androidx.lifecycle.LiveData;
 import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus;
 import edu.cnm.deepdive.codebreaker.app.model.GameSummary;
 import java.util.Collection;
 import java.util.List;
@@ -11,6 +12,8 @@ public interface GameSummaryRepository {
 
   CompletableFuture<Void> summarize(Game game);
 
+  CompletableFuture<Void> summarize(GameStatus status);
+
   CompletableFuture<GameSummary> getByExternalKey(String externalKey);
 
   CompletableFuture<Integer> remove(GameSummary summary);
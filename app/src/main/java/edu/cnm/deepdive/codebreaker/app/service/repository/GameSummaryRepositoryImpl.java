@@ -2,37 +2,55 @@ package edu.cnm.deepdive.codebreaker.app.service.repository;
 
 import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import androidx.lifecycle.MutableLiveData;
 import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus;
 import edu.cnm.deepdive.codebreaker.api.model.Guess;
 import edu.cnm.deepdive.codebreaker.app.model.GameSummary;
 import edu.cnm.deepdive.codebreaker.app.service.dao.GameSummaryDao;
+import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
+import edu.cnm.deepdive.codebreaker.client.service.RequestPriority;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Singleton
 public class GameSummaryRepositoryImpl implements GameSummaryRepository {
 
   private final GameSummaryDao dao;
-
+  private final CodebreakerService service;
+  private final Set<String> pendingDeleteKeys;
+  private final MutableLiveData<Set<String>> pendingDeletes;
 
   @Inject
-  GameSummaryRepositoryImpl(GameSummaryDao dao) {
+  GameSummaryRepositoryImpl(GameSummaryDao dao, CodebreakerService service) {
     this.dao = dao;
+    this.service = service;
+    pendingDeleteKeys = ConcurrentHashMap.newKeySet();
+    pendingDeletes = new MutableLiveData<>(Set.of());
   }
 
+  @SuppressWarnings("DataFlowIssue")
   @Override
   public CompletableFuture<Void> summarize(Game game) {
-    return CompletableFuture.runAsync(() -> {
-      GameSummary summary = dao.selectByExternalKey(game.getId());
-      if (summary == null) {
-        summary = createSummary(game);
-      }
-      updateSummary(game, summary);
-      saveSummary(summary);
-    });
+    List<Guess> guesses = game.getGuesses();
+    int size = guesses.size();
+    return summarize(game.getId(), game.getCreated(), game.getPool(), game.getLength(),
+        game.getSolved(), size, (size > 0) ? guesses.get(size - 1) : null);
+  }
+
+  @SuppressWarnings("DataFlowIssue")
+  @Override
+  public CompletableFuture<Void> summarize(GameStatus status) {
+    return summarize(status.getId(), status.getCreated(), status.getPool(), status.getLength(),
+        status.getSolved(), status.getGuessCount(), status.getLastGuess());
   }
 
   @Override
@@ -46,42 +64,70 @@ public class GameSummaryRepositoryImpl implements GameSummaryRepository {
     return CompletableFuture.supplyAsync(() -> dao.delete(summary));
   }
 
+  /**
+   * Deletes the games of {@code summaries} from the service in the background lane, then deletes
+   * the summaries. Until the service confirms, the summaries are hidden from the selected lists;
+   * if the deletion fails, they reappear. The marks are kept in memory only, since an unconfirmed
+   * deletion dies with the process while the games remain on the service.
+   */
   @Override
   public CompletableFuture<Integer> removeAll(Collection<GameSummary> summaries) {
-    return CompletableFuture.supplyAsync(() -> dao.deleteAll(summaries));
+    List<String> externalKeys = summaries
+        .stream()
+        .map(GameSummary::getExternalKey)
+        .collect(Collectors.toList());
+    markPendingDelete(externalKeys, true);
+    return service
+        .withPriority(RequestPriority.BACKGROUND)
+        .deleteGames(externalKeys)
+        .thenApplyAsync((ignored) -> dao.deleteAll(summaries))
+        .whenComplete((count, throwable) -> {
+          if (throwable != null) {
+            markPendingDelete(externalKeys, false);
+          }
+        });
   }
 
   @Override
   public LiveData<List<GameSummary>> selectInProgress() {
-    return dao.selectInProgress();
+    return withoutPendingDeletes(dao.selectInProgress());
   }
 
   @Override
   public LiveData<List<GameSummary>> selectCompleted(int poolSize, int codeLength) {
-    return dao.selectCompleted(poolSize, codeLength);
+    return withoutPendingDeletes(dao.selectCompleted(poolSize, codeLength));
   }
 
-  @SuppressWarnings("DataFlowIssue")
-  private static @NonNull GameSummary createSummary(Game game) {
+  private CompletableFuture<Void> summarize(String externalKey, OffsetDateTime started, String pool,
+      int codeLength, Boolean solved, int guessCount, Guess lastGuess) {
+    return CompletableFuture.runAsync(() -> {
+      GameSummary summary = dao.selectByExternalKey(externalKey);
+      if (summary == null) {
+        summary = createSummary(externalKey, started, pool, codeLength);
+      }
+      updateSummary(summary, Boolean.TRUE.equals(solved), guessCount, lastGuess);
+      saveSummary(summary);
+    });
+  }
+
+  private static @NonNull GameSummary createSummary(
+      String externalKey, OffsetDateTime started, String pool, int codeLength) {
     GameSummary summary;
     summary = new GameSummary();
-    summary.setExternalKey(game.getId());
-    summary.setStarted(game.getCreated().toInstant());
-    String pool = game.getPool();
+    summary.setExternalKey(externalKey);
+    summary.setStarted(started.toInstant());
     summary.setPool(pool);
     summary.setPoolSize((int) pool.codePoints().count());
-    summary.setCodeLength(game.getLength());
+    summary.setCodeLength(codeLength);
     return summary;
   }
 
   @SuppressWarnings("DataFlowIssue")
-  private static void updateSummary(Game game, GameSummary summary) {
-    summary.setSolved(Boolean.TRUE.equals(game.getSolved()));
-    List<Guess> guesses = game.getGuesses();
-    int size = guesses.size();
-    summary.setGuessCount(size);
-    if (size > 0) {
-      Guess lastGuess = guesses.get(size - 1);
+  private static void updateSummary(
+      GameSummary summary, boolean solved, int guessCount, Guess lastGuess) {
+    summary.setSolved(solved);
+    summary.setGuessCount(guessCount);
+    if (lastGuess != null) {
       summary.setLastPlayed(lastGuess.getCreated().toInstant());
       summary.setExactMatches(lastGuess.getExactMatches());
       summary.setNearMatches(lastGuess.getNearMatches());
@@ -92,6 +138,32 @@ public class GameSummaryRepositoryImpl implements GameSummaryRepository {
     }
   }
 
+  private void markPendingDelete(Collection<String> externalKeys, boolean pending) {
+    if (pending) {
+      pendingDeleteKeys.addAll(externalKeys);
+    } else {
+      pendingDeleteKeys.removeAll(externalKeys);
+    }
+    pendingDeletes.postValue(Set.copyOf(pendingDeleteKeys));
+  }
+
+  private LiveData<List<GameSummary>> withoutPendingDeletes(LiveData<List<GameSummary>> source) {
+    MediatorLiveData<List<GameSummary>> visible = new MediatorLiveData<>();
+    Runnable update = () -> {
+      List<GameSummary> summaries = source.getValue();
+      Set<String> pending = pendingDeletes.getValue();
+      if (summaries != null && pending != null) {
+        visible.setValue(summaries
+            .stream()
+            .filter((summary) -> !pending.contains(summary.getExternalKey()))
+            .collect(Collectors.toList()));
+      }
+    };
+    visible.addSource(source, (summaries) -> update.run());
+    visible.addSource(pendingDeletes, (pending) -> update.run());
+    return visible;
+  }
+
   private void saveSummary(GameSummary summary) {
     if (summary.getId() == 0) {
       dao.insert(summary);
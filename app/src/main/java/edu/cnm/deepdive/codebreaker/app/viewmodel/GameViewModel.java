@@ -16,6 +16,7 @@ import edu.cnm.deepdive.codebreaker.api.model.Guess;
 import edu.cnm.deepdive.codebreaker.app.R;
 import edu.cnm.deepdive.codebreaker.app.service.GameService;
 import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
+import edu.cnm.deepdive.codebreaker.client.service.GameConflictException;
 import jakarta.inject.Inject;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
@@ -103,11 +104,19 @@ public class GameViewModel extends ViewModel {
           return g;
         })
         .thenAccept((g) -> {
-          if (Boolean.TRUE.equals(g.getSolution())) {
-            fetchGame(game.getId());
-          } else {
+          if (!Boolean.TRUE.equals(g.getSolution())) {
             this.game.postValue(game);
+          } else if (g.getGame() != null) {
+            this.game.postValue(g.getGame());
+          } else {
+            fetchGame(game.getId());
+          }
+        })
+        .exceptionally((throwable) -> {
+          if (throwable.getCause() instanceof GameConflictException) {
+            this.game.postValue(((GameConflictException) throwable.getCause()).applyTo(game));
           }
+          return postThrowable(throwable);
         });
   }
 
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+plugins {
+    kotlin("jvm").version(libs.versions.kotlin.get())
+    alias(libs.plugins.jmh)
+}
+
+val javaVersion: String = libs.versions.java.get()
+
+kotlin {
+    jvmToolchain(javaVersion.toInt())
+}
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    }
+}
+
+dependencies {
+    jmhImplementation(project(":api"))
+    jmhImplementation(project(":client"))
+    jmhImplementation(testFixtures(project(":client")))
+    jmhImplementation(kotlin("stdlib"))
+    jmhImplementation(libs.gson)
+    jmhImplementation(libs.retrofit.core)
+    jmhImplementation(libs.retrofit.converter.gson)
+    jmhImplementation(libs.okhttp)
+}
+
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers.add("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
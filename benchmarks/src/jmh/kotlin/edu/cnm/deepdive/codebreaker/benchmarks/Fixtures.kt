@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmarks
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+import okhttp3.Interceptor
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import okhttp3.ResponseBody.Companion.toResponseBody
+import java.time.OffsetDateTime
+import java.time.ZoneOffset
+import java.util.Properties
+import java.util.Random
+import java.util.UUID
+
+/** Base URL of the stub service. */
+internal const val BASE_URL = "http://localhost/codebreaker-solitaire/"
+
+/** Character pool used by generated games. */
+internal const val POOL = "ABCDEFGH"
+
+/** Code length of generated games. */
+internal const val CODE_LENGTH = 4
+
+private const val SEED = 20260101L
+private const val BASE_URL_KEY = "baseUrl"
+private const val TRANSPORT_KEY = "transport"
+private const val OK = 200
+private const val OK_MESSAGE = "OK"
+private const val JSON_MEDIA_TYPE = "application/json"
+
+/**
+ * Builds a game in progress with [guessCount] scored guesses, drawn from a fixed seed so that
+ * every benchmark run measures the same payloads.
+ */
+internal fun buildGame(guessCount: Int): Game {
+    val random = Random(SEED)
+    val start = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)
+    val guesses = (1..guessCount).map { index ->
+        buildGuess(random, start.plusSeconds(index.toLong()))
+    }
+    return Game(UUID(random.nextLong(), random.nextLong()).toString(), start, false, null, guesses)
+        .pool(POOL)
+        .length(CODE_LENGTH)
+}
+
+/**
+ * Builds a single scored, non-solution guess.
+ */
+internal fun buildGuess(random: Random, created: OffsetDateTime): Guess {
+    val text = (1..CODE_LENGTH)
+        .map { POOL[random.nextInt(POOL.length)] }
+        .joinToString("")
+    val exactMatches = random.nextInt(CODE_LENGTH)
+    val nearMatches = random.nextInt(CODE_LENGTH - exactMatches + 1)
+    return Guess(
+        UUID(random.nextLong(), random.nextLong()).toString(),
+        created,
+        exactMatches,
+        nearMatches,
+        false
+    )
+        .text(text)
+}
+
+/**
+ * Builds client properties for the stub service, using the specified `transport`.
+ */
+internal fun buildProperties(transport: String): Properties {
+    return Properties().apply {
+        setProperty(BASE_URL_KEY, BASE_URL)
+        setProperty(TRANSPORT_KEY, transport)
+    }
+}
+
+/**
+ * Builds an OkHttp client that answers every request locally, with a `200` response carrying
+ * [body], so that benchmarks measure the client stack without network I/O.
+ */
+internal fun buildStubClient(body: String): OkHttpClient {
+    return OkHttpClient.Builder()
+        .addInterceptor(Interceptor { chain ->
+            okhttp3.Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(OK)
+                .message(OK_MESSAGE)
+                .body(body.toResponseBody(JSON_MEDIA_TYPE.toMediaType()))
+                .build()
+        })
+        .build()
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmarks
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.service.CodebreakerApi
+import edu.cnm.deepdive.codebreaker.client.service.ClientFixtures
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okio.Timeout
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import retrofit2.Call
+import retrofit2.Callback
+import retrofit2.Response
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the cost of completing a request's future through the client's [ServiceCallback]:
+ *
+ * - [completedFuture] is the floor: a future that is already complete, with the same
+ *   continuation;
+ * - [serviceCallback] completes the future from a stub [Call] that answers synchronously, isolating
+ *   the callback bridge;
+ * - [retrofitStack] runs the full Retrofit proxy, OkHttp dispatcher, and Gson conversion against a
+ *   local interceptor that returns a canned response, without network I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class FutureChainBenchmark {
+
+    private lateinit var game: Game
+    private lateinit var stubCall: Call<Game>
+    private lateinit var client: OkHttpClient
+    private lateinit var api: CodebreakerApi
+
+    @Setup
+    fun setUp() {
+        val gson = ClientFixtures.gson()
+        game = buildGame(GUESS_COUNT)
+        stubCall = StubCall(game)
+        val body = gson.toJson(game)
+        client = buildStubClient(body)
+        api = ClientFixtures.api(buildProperties(RETROFIT_TRANSPORT), gson, client)
+    }
+
+    @TearDown
+    fun tearDown() {
+        client.dispatcher.executorService.shutdown()
+    }
+
+    @Benchmark
+    fun completedFuture(): String {
+        return CompletableFuture.completedFuture(game)
+            .thenApply(Game::getId)
+            .join()
+    }
+
+    @Benchmark
+    fun serviceCallback(): String {
+        return CompletableFuture<Game>()
+            .apply { stubCall.enqueue(ClientFixtures.callback(this)) }
+            .thenApply(Game::getId)
+            .join()
+    }
+
+    @Benchmark
+    fun retrofitStack(): String {
+        return CompletableFuture<Game>()
+            .apply { api.getGame(game.id).enqueue(ClientFixtures.callback(this)) }
+            .thenApply(Game::getId)
+            .join()
+    }
+
+    /**
+     * [Call] that answers every request synchronously with the same successful response.
+     */
+    private class StubCall(private val game: Game) : Call<Game> {
+
+        override fun execute(): Response<Game> = Response.success(game)
+
+        override fun enqueue(callback: Callback<Game>) {
+            callback.onResponse(this, execute())
+        }
+
+        override fun isExecuted(): Boolean = false
+
+        override fun cancel() {
+        }
+
+        override fun isCanceled(): Boolean = false
+
+        override fun clone(): Call<Game> = StubCall(game)
+
+        override fun request(): Request = Request.Builder().url(BASE_URL).build()
+
+        override fun timeout(): Timeout = Timeout.NONE
+
+    }
+
+    private companion object {
+        const val GUESS_COUNT = 10
+        const val RETROFIT_TRANSPORT = "retrofit"
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmarks
+
+import com.google.gson.Gson
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+import edu.cnm.deepdive.codebreaker.client.service.ClientFixtures
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import java.util.Random
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures Gson serialization and deserialization of [Game] (at several guess history sizes) and
+ * [Guess], using the Gson instance configured by the client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class GsonBenchmark {
+
+    @Param("0", "10", "100", "1000")
+    @JvmField
+    var historySize: Int = 0
+
+    private lateinit var gson: Gson
+    private lateinit var game: Game
+    private lateinit var gameJson: String
+    private lateinit var guess: Guess
+    private lateinit var guessJson: String
+
+    @Setup
+    fun setUp() {
+        gson = ClientFixtures.gson()
+        game = buildGame(historySize)
+        gameJson = gson.toJson(game)
+        guess = buildGuess(Random(), game.created)
+        guessJson = gson.toJson(guess)
+    }
+
+    @Benchmark
+    fun serializeGame(): String = gson.toJson(game)
+
+    @Benchmark
+    fun deserializeGame(): Game = gson.fromJson(gameJson, Game::class.java)
+
+    @Benchmark
+    fun serializeGuess(): String = gson.toJson(guess)
+
+    @Benchmark
+    fun deserializeGuess(): Guess = gson.fromJson(guessJson, Guess::class.java)
+
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmarks
+
+import com.google.gson.TypeAdapter
+import edu.cnm.deepdive.codebreaker.client.service.ClientFixtures
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import java.time.OffsetDateTime
+import java.time.ZoneOffset
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the client's [OffsetDateTimeAdapter] in isolation, writing and reading a timestamp with
+ * nanosecond precision (as returned by the service).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class OffsetDateTimeAdapterBenchmark {
+
+    private lateinit var adapter: TypeAdapter<OffsetDateTime?>
+    private lateinit var value: OffsetDateTime
+    private lateinit var json: String
+
+    @Setup
+    fun setUp() {
+        adapter = ClientFixtures.offsetDateTimeAdapter()
+        value = OffsetDateTime.of(2026, 1, 1, 12, 34, 56, 789_012_345, ZoneOffset.UTC)
+        json = "\"$value\""
+    }
+
+    @Benchmark
+    fun write(): String = adapter.toJson(value)
+
+    @Benchmark
+    fun read(): OffsetDateTime? = adapter.fromJson(json)
+
+}
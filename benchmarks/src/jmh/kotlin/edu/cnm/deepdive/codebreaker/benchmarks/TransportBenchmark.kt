@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmarks
+
+import com.google.gson.Gson
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.service.CodebreakerApi
+import edu.cnm.deepdive.codebreaker.client.service.ClientFixtures
+import okhttp3.OkHttpClient
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.BenchmarkParams
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Compares the Retrofit and direct transports (selected by the client's `transport` property):
+ *
+ * - [firstCall] builds the API and completes a single request in a fresh JVM, so that it includes
+ *   class loading, proxy generation, and service-method parsing, as a cold start does (the API is
+ *   not built during setup for this benchmark, so none of that work is done in advance);
+ * - [call] completes a request through an API that has already served requests, measuring the
+ *   steady-state per-call overhead.
+ *
+ * Both run against a local interceptor that returns a canned response, without network I/O.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class TransportBenchmark {
+
+    @Param("retrofit", "direct")
+    @JvmField
+    var transport: String = ""
+
+    private lateinit var gson: Gson
+    private lateinit var game: Game
+    private lateinit var client: OkHttpClient
+    private lateinit var api: CodebreakerApi
+
+    @Setup
+    fun setUp(params: BenchmarkParams) {
+        gson = ClientFixtures.gson()
+        game = buildGame(GUESS_COUNT)
+        client = buildStubClient(gson.toJson(game))
+        if (params.mode != Mode.SingleShotTime) {
+            api = ClientFixtures.api(buildProperties(transport), gson, client)
+        }
+    }
+
+    @TearDown
+    fun tearDown() {
+        client.dispatcher.executorService.shutdown()
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Fork(COLD_FORKS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    fun firstCall(): String {
+        return getGame(ClientFixtures.api(buildProperties(transport), gson, client))
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    fun call(): String {
+        return getGame(api)
+    }
+
+    private fun getGame(api: CodebreakerApi): String {
+        return CompletableFuture<Game>()
+            .apply { api.getGame(game.id).enqueue(ClientFixtures.callback(this)) }
+            .thenApply(Game::getId)
+            .join()
+    }
+
+    private companion object {
+        const val GUESS_COUNT = 10
+        const val COLD_FORKS = 20
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmarks
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+import edu.cnm.deepdive.codebreaker.client.service.ClientFixtures
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the client-side validation of new games and guesses, for a small character pool and a
+ * large one (near the maximum pool length).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class ValidationBenchmark {
+
+    @Param("small", "large")
+    @JvmField
+    var poolSize: String = ""
+
+    private lateinit var game: Game
+    private lateinit var guess: Guess
+
+    @Setup
+    fun setUp() {
+        val pool = when (poolSize) {
+            "small" -> POOL
+            else -> (LARGE_POOL_START until LARGE_POOL_START + LARGE_POOL_LENGTH)
+                .map(Int::toChar)
+                .joinToString("")
+        }
+        game = Game()
+            .pool(pool)
+            .length(MAX_CODE_LENGTH)
+        guess = Guess()
+            .text(
+                (0 until MAX_CODE_LENGTH)
+                    .map { pool[it * GUESS_STRIDE % pool.length] }
+                    .joinToString("")
+            )
+    }
+
+    @Benchmark
+    fun validateGame(): Boolean = ClientFixtures.isValidGame(game)
+
+    @Benchmark
+    fun validateGuess(): Boolean = ClientFixtures.isValidGuess(game, guess)
+
+    private companion object {
+        const val MAX_CODE_LENGTH = 20
+        const val LARGE_POOL_START = 0x4E00
+        const val LARGE_POOL_LENGTH = 250
+        // Spreads the characters of the guess across the pool.
+        const val GUESS_STRIDE = 7
+    }
+
+}
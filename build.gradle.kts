@@ -23,5 +23,6 @@ plugins {
     alias(libs.plugins.schema.parser).apply(false)
     alias(libs.plugins.junit).apply(false)
     alias(libs.plugins.kotlin.android).apply(false)
+    alias(libs.plugins.jmh).apply(false)
 
 }
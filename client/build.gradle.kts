@@ -17,6 +17,7 @@ import org.gradle.api.tasks.testing.logging.TestLogEvent
 
 plugins {
     kotlin("jvm").version(libs.versions.kotlin.get())
+    `java-test-fixtures`
     jacoco
 }
 
@@ -24,6 +25,9 @@ val javaVersion: String = libs.versions.java.get()
 
 kotlin {
     jvmToolchain(javaVersion.toInt())
+    target.compilations.named("testFixtures") {
+        associateWith(target.compilations.getByName("main"))
+    }
 }
 java {
     toolchain {
@@ -39,6 +43,11 @@ dependencies {
     implementation(libs.retrofit.converter.gson)
     implementation(libs.okhttp)
     implementation(libs.logging.interceptor)
+    api(libs.kotlinx.coroutines.core)
+    testFixturesApi(project(":api"))
+    testFixturesApi(libs.gson)
+    testFixturesApi(libs.retrofit.core)
+    testFixturesApi(libs.okhttp)
     testImplementation(kotlin("test"))
     testImplementation(libs.junit.aggregator)
     testRuntimeOnly(libs.junit.engine)
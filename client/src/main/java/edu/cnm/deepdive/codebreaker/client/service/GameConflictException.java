@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service;
+
+import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.GameDelta;
+import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exception thrown when a guess is rejected because the game has changed (e.g. because a guess was
+ * submitted from another device) since the version of the game on which the guess was based. This
+ * is an extension of {@link IllegalStateException} that corresponds to a 412 Precondition Failed
+ * response from the Codebreaker web service. The changes to the game are available from
+ * {@link #getDelta()}, and can be applied to the local copy of the game with
+ * {@link #applyTo(Game)}, without retrieving the game again.
+ */
+public class GameConflictException extends IllegalStateException {
+
+  private final GameDelta delta;
+
+  /**
+   * Initializes this instance with no detail message or changes.
+   */
+  GameConflictException() {
+    this((GameDelta) null);
+  }
+
+  /**
+   * Initializes this instance with the specified changes to the game, and no detail message.
+   *
+   * @param delta The changes to the game since the version on which the guess was based.
+   */
+  GameConflictException(GameDelta delta) {
+    this.delta = delta;
+  }
+
+  /**
+   * Initializes this instance with the specified detail message.
+   *
+   * @param s The detail message.
+   */
+  GameConflictException(String s) {
+    super(s);
+    delta = null;
+  }
+
+  /**
+   * Initializes this instance with the specified detail message and cause.
+   *
+   * @param message The detail message.
+   * @param cause   The cause of the exception.
+   */
+  GameConflictException(String message, Throwable cause) {
+    super(message, cause);
+    delta = null;
+  }
+
+  /**
+   * Initializes this instance with the specified cause.
+   *
+   * @param cause The cause of the exception.
+   */
+  GameConflictException(Throwable cause) {
+    super(cause);
+    delta = null;
+  }
+
+  /**
+   * Returns the changes to the game since the version on which the rejected guess was based, or
+   * {@code null} if the service did not include them.
+   *
+   * @return The {@link GameDelta}, or {@code null}.
+   */
+  public GameDelta getDelta() {
+    return delta;
+  }
+
+  /**
+   * Returns a copy of the specified game, brought up to date with the changes carried by this
+   * exception. If there are no changes available, {@code game} is returned unchanged. Fields
+   * missing from the changes are treated conservatively: a missing version is taken to mean that
+   * the added guesses follow all of those in {@code game}, missing guesses are taken to be none,
+   * and a missing solved flag or secret code leaves that of {@code game} in place.
+   *
+   * @param game The local copy of the game, at the version on which the rejected guess was based.
+   * @return The current state of the game.
+   */
+  public Game applyTo(Game game) {
+    if (delta == null) {
+      return game;
+    }
+    List<Guess> added = (delta.getGuesses() != null) ? delta.getGuesses() : List.of();
+    List<Guess> known = (game.getGuesses() != null) ? game.getGuesses() : List.of();
+    Integer version = delta.getVersion();
+    int since = (version != null)
+        ? Math.min(known.size(), Math.max(0, version - added.size()))
+        : known.size();
+    List<Guess> guesses = new ArrayList<>(known.subList(0, since));
+    guesses.addAll(added);
+    Boolean solved = (delta.getSolved() != null) ? delta.getSolved() : game.getSolved();
+    String text = (delta.getText() != null) ? delta.getText() : game.getText();
+    return new Game(game.getId(), game.getCreated(), solved, text, guesses)
+        .pool(game.getPool())
+        .length(game.getLength());
+  }
+
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service;
+
+/**
+ * Exception thrown when the Codebreaker web service rejects a request because the client has
+ * exceeded its rate limit. This is an extension of {@link IllegalStateException} that corresponds
+ * to a 429 Too Many Requests response from the Codebreaker web service; the client slows its own
+ * request rate in response, so a later retry is likely to succeed.
+ */
+public class RateLimitedException extends IllegalStateException {
+
+  /**
+   * Initializes this instance with no detail message.
+   */
+  RateLimitedException() {
+  }
+
+  /**
+   * Initializes this instance with the specified detail message.
+   *
+   * @param s The detail message.
+   */
+  RateLimitedException(String s) {
+    super(s);
+  }
+
+  /**
+   * Initializes this instance with the specified detail message and cause.
+   *
+   * @param message The detail message.
+   * @param cause   The cause of the exception.
+   */
+  RateLimitedException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  /**
+   * Initializes this instance with the specified cause.
+   *
+   * @param cause The cause of the exception.
+   */
+  RateLimitedException(Throwable cause) {
+    super(cause);
+  }
+
+}
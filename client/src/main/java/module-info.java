@@ -21,10 +21,12 @@ module edu.cnm.deepdive.codebreaker.client {
 
   requires okhttp3;
   requires okhttp3.logging;
+  requires okio;
   requires retrofit2;
   requires retrofit2.converter.gson;
   requires com.google.gson;
   requires edu.cnm.deepdive.codebreaker.api;
+  requires transitive kotlinx.coroutines.core;
 
   exports edu.cnm.deepdive.codebreaker.client.service;
 
@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.HttpUrl
+import okhttp3.Request
+import retrofit2.Call
+import java.io.IOException
+import java.time.Duration
+import java.util.concurrent.CancellationException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import kotlin.math.ceil
+import kotlin.math.roundToLong
+
+/**
+ * Sets the overall timeout of each call from the latencies recently observed for the same
+ * operation, instead of relying on fixed timeouts. For each operation (identified by HTTP method
+ * and path template, e.g. `POST games/{id}/guesses`), the latencies of the last [windowSize]
+ * completed calls are kept; the timeout of a new call is the [percentile] of those latencies,
+ * multiplied by [multiplier], and limited to the range from [floor] to [ceiling]. Until an
+ * operation has [minSamples] latencies, its calls are given the [ceiling] timeout.
+ *
+ * Calls that fail with an [IOException] (including timeouts) or are cancelled are not recorded, so
+ * that a partial outage does not inflate the timeouts it is cutting short.
+ */
+internal class AdaptiveTimeouts(
+    private val baseUrl: HttpUrl,
+    private val percentile: Double,
+    private val multiplier: Double,
+    private val floor: Duration,
+    private val ceiling: Duration,
+    private val windowSize: Int,
+    private val minSamples: Int
+) {
+
+    private val windows = ConcurrentHashMap<String, LatencyWindow>()
+
+    /**
+     * Applies the current timeout for its operation to [call], and returns a function to be
+     * invoked with the outcome when the call completes, which records its latency.
+     */
+    fun <T> track(call: Call<T>): (Throwable?) -> Unit {
+        val window = windows.computeIfAbsent(operationOf(baseUrl, call.request())) {
+            LatencyWindow(windowSize)
+        }
+        call.timeout().timeout(window.timeoutNanos(), TimeUnit.NANOSECONDS)
+        val start = System.nanoTime()
+        return { throwable ->
+            if (throwable !is IOException && throwable !is CancellationException) {
+                window.record(System.nanoTime() - start)
+            }
+        }
+    }
+
+    /**
+     * Returns the current timeout of each operation for which latencies have been recorded.
+     */
+    fun snapshot(): Map<String, Duration> {
+        return windows.mapValues { (_, window) -> Duration.ofNanos(window.timeoutNanos()) }
+    }
+
+    /**
+     * Ring buffer of the most recent latencies of one operation, with the derived timeout cached
+     * and recomputed after every [RECOMPUTE_INTERVAL] samples.
+     */
+    private inner class LatencyWindow(capacity: Int) {
+
+        private val latencies = LongArray(capacity)
+        private var count = 0
+        private var next = 0
+        private var sinceRecompute = 0
+
+        @Volatile
+        private var timeout = ceiling.toNanos()
+
+        fun timeoutNanos(): Long = timeout
+
+        fun record(latencyNanos: Long) {
+            synchronized(latencies) {
+                latencies[next] = latencyNanos
+                next = (next + 1) % latencies.size
+                if (count < latencies.size) {
+                    count++
+                }
+                if (count >= minSamples && ++sinceRecompute >= RECOMPUTE_INTERVAL) {
+                    sinceRecompute = 0
+                    timeout = computeTimeout()
+                }
+            }
+        }
+
+        private fun computeTimeout(): Long {
+            val sorted = latencies.copyOf(count).apply { sort() }
+            val rank = (ceil(percentile * count).toInt() - 1).coerceIn(0, count - 1)
+            return (sorted[rank] * multiplier)
+                .roundToLong()
+                .coerceIn(floor.toNanos(), ceiling.toNanos())
+        }
+
+    }
+
+    private companion object {
+        const val RECOMPUTE_INTERVAL = 8
+    }
+
+}
+
+/**
+ * Returns the operation performed by [request]: its HTTP method and its path relative to
+ * [baseUrl], with game and guess IDs replaced by a placeholder (e.g. `POST games/{id}/guesses`).
+ */
+internal fun operationOf(baseUrl: HttpUrl, request: Request): String {
+    val segments = request.url.pathSegments.drop(baseUrl.pathSegments.size - 1)
+    val template = segments
+        .mapIndexed { index, segment ->
+            val parent = segments.getOrNull(index - 1)
+            if (parent in ID_PARENT_SEGMENTS) ID_PLACEHOLDER else segment
+        }
+        .joinToString(PATH_SEPARATOR)
+    return "${request.method} $template"
+}
+
+private const val ID_PLACEHOLDER = "{id}"
+private const val PATH_SEPARATOR = "/"
+private val ID_PARENT_SEGMENTS = setOf("games", "guesses")
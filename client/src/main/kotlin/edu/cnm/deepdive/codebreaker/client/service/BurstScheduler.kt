@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Holds deferrable requests and releases them together in short bursts, so that a cellular radio
+ * is woken once for several requests rather than kept awake by a trickle of them. A deferred
+ * request is held until one of the following occurs, whereupon all held requests are released:
+ *
+ * - the first held request has waited [maxDelay];
+ * - [maxSize] requests are held;
+ * - a request that cannot be deferred is sent (see [flush]), waking the radio anyway.
+ *
+ * Once the radio is awake, it stays in its high-power state for several seconds after the last
+ * exchange. A deferred request made within [tail] of the last burst, interactive request, or
+ * completed exchange (see [touch]) is therefore released immediately; this also keeps chains of
+ * dependent requests (e.g. successive listing pages) from waiting [maxDelay] at every step.
+ */
+internal class BurstScheduler(
+    private val maxDelay: Duration,
+    private val maxSize: Int,
+    private val tail: Duration,
+    private val scheduler: ScheduledExecutorService
+) {
+
+    private val lock = Any()
+    private var pending: MutableList<CompletableFuture<Void?>> = ArrayList()
+    private var deadline: ScheduledFuture<*>? = null
+    private var lastActivity: Long? = null
+
+    /**
+     * Number of requests currently held.
+     */
+    val deferredCount: Int
+        get() = synchronized(lock) { pending.size }
+
+    /**
+     * Returns a future that completes when a deferrable request may be sent: immediately if the
+     * radio is likely to be awake, otherwise with the next burst. The future is completed on the
+     * thread releasing the burst, so dependent actions should only enqueue their requests.
+     */
+    fun defer(): CompletableFuture<Void?> {
+        val (release, batch) = synchronized(lock) {
+            if (isAwake()) {
+                return CompletableFuture.completedFuture(null)
+            }
+            val release = CompletableFuture<Void?>()
+            pending.add(release)
+            if (pending.size == 1) {
+                deadline = scheduler.schedule(
+                    Runnable { flush() }, maxDelay.toNanos(), TimeUnit.NANOSECONDS
+                )
+            }
+            release to if (pending.size >= maxSize) drain() else null
+        }
+        batch?.let(::release)
+        return release
+    }
+
+    /**
+     * Releases all held requests immediately, and records that the radio is awake. This is invoked
+     * whenever a request that cannot be deferred is sent.
+     */
+    fun flush() {
+        val batch = synchronized(lock) { drain() }
+        release(batch)
+    }
+
+    /**
+     * Records that an exchange has just completed, so that the radio is awake.
+     */
+    fun touch() {
+        synchronized(lock) {
+            lastActivity = System.nanoTime()
+        }
+    }
+
+    private fun isAwake(): Boolean {
+        return lastActivity?.let { System.nanoTime() - it < tail.toNanos() } ?: false
+    }
+
+    private fun drain(): List<CompletableFuture<Void?>> {
+        deadline?.cancel(false)
+        deadline = null
+        lastActivity = System.nanoTime()
+        val batch = pending
+        pending = ArrayList()
+        return batch
+    }
+
+    private fun release(batch: List<CompletableFuture<Void?>>) {
+        batch.forEach { it.complete(null) }
+    }
+
+}
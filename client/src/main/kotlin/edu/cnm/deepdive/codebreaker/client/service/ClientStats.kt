@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import java.time.Duration
+
+/**
+ * Point-in-time snapshot of the runtime state of a [CodebreakerService]: dispatcher queues for
+ * each [RequestPriority] lane, and utilization of the shared connection pool.
+ *
+ * @property lanes Dispatcher statistics, keyed by lane.
+ * @property connectionCount Total number of connections (active and idle) in the pool.
+ * @property idleConnectionCount Number of idle connections in the pool.
+ * @property maxIdleConnections Configured maximum number of idle connections kept in the pool.
+ * @property startup Time spent initializing the service.
+ * @property cache HTTP disk cache statistics, or `null` if the disk cache is disabled (as it is
+ * unless `cacheDirectory` is specified).
+ * @property timeouts Current adaptive call timeout of each operation (keyed by HTTP method and
+ * path template, e.g. `GET games/{id}`) for which latencies have been recorded; empty if adaptive
+ * timeouts are disabled.
+ * @property latencies Recent latency of each operation (keyed as in [timeouts]), split into client
+ * queueing, service processing, and network time; empty if latency splitting is disabled.
+ * @property deferredCalls Number of [RequestPriority.BACKGROUND] calls held for the next burst;
+ * always 0 if burst scheduling is disabled.
+ */
+data class ClientStats(
+    val lanes: Map<RequestPriority, LaneStats>,
+    val connectionCount: Int,
+    val idleConnectionCount: Int,
+    val maxIdleConnections: Int,
+    val startup: StartupTimings,
+    val cache: CacheStats?,
+    val timeouts: Map<String, Duration>,
+    val latencies: Map<String, LatencyBreakdown>,
+    val deferredCalls: Int
+) {
+
+    /**
+     * Number of pooled connections currently carrying (or reserved for) a request.
+     */
+    val activeConnectionCount: Int
+        get() = connectionCount - idleConnectionCount
+
+}
+
+/**
+ * Point-in-time snapshot of the dispatcher serving a single [RequestPriority] lane.
+ *
+ * @property queuedCalls Number of calls waiting for a dispatcher slot.
+ * @property runningCalls Number of calls currently executing.
+ * @property maxRequests Configured limit on concurrently executing calls.
+ * @property maxRequestsPerHost Configured limit on concurrently executing calls to a single host.
+ */
+data class LaneStats(
+    val queuedCalls: Int,
+    val runningCalls: Int,
+    val maxRequests: Int,
+    val maxRequestsPerHost: Int
+)
+
+/**
+ * Latency of the calls recently completed for a single operation, split into its components.
+ *
+ * @property samples Number of calls from which the breakdown is computed.
+ * @property median Median of each component, computed independently of the others.
+ * @property p99 Mean of each component over the slowest calls: those with a total latency at or
+ * above the 99th percentile. Since these components are taken from the same calls, comparing them
+ * with [median] shows which component is responsible for tail latency.
+ */
+data class LatencyBreakdown(
+    val samples: Int,
+    val median: LatencySplit,
+    val p99: LatencySplit
+)
+
+/**
+ * Latency of a call (or a summary of several calls), split into its components.
+ *
+ * @property total Time from enqueuing (or executing) a call to consuming its response body.
+ * @property queue Time spent in the client before the call needed a connection, chiefly waiting
+ * for a dispatcher slot. Time spent waiting for the rate limiter (if enabled) precedes the call,
+ * and is not included.
+ * @property server Processing time reported by the service in the `Server-Timing` header.
+ * @property network Remainder of [total]: connection setup, and transfer of the request and
+ * response.
+ */
+data class LatencySplit(
+    val total: Duration,
+    val queue: Duration,
+    val server: Duration,
+    val network: Duration
+)
+
+/**
+ * Point-in-time snapshot of the HTTP disk cache shared by all lanes.
+ *
+ * @property requestCount Number of HTTP requests that consulted the cache.
+ * @property networkCount Number of those requests that required a network exchange (including
+ * conditional requests that were revalidated by the service).
+ * @property hitCount Number of those requests satisfied (fully or by revalidation) from the cache.
+ * @property maxSize Configured maximum size of the cache, in bytes.
+ */
+data class CacheStats(
+    val requestCount: Int,
+    val networkCount: Int,
+    val hitCount: Int,
+    val maxSize: Long
+) {
+
+    /**
+     * Fraction of requests satisfied from the cache, or `0.0` if no requests have been made.
+     */
+    val hitRate: Double
+        get() = if (requestCount > 0) hitCount.toDouble() / requestCount else 0.0
+
+}
+
+/**
+ * Time spent in each stage of initializing a [CodebreakerService]. Initialization runs on a
+ * background thread, started when the service is first referenced.
+ *
+ * @property properties Time spent loading `service.properties`.
+ * @property gson Time spent building the Gson instance.
+ * @property client Time spent building the OkHttp clients for all lanes.
+ * @property api Time spent building the [edu.cnm.deepdive.codebreaker.api.service.CodebreakerApi]
+ * implementations (Retrofit proxies or direct transports, per `transport`) for all lanes.
+ * @property prewarm Time taken to open (and, for HTTPS, handshake) the first connection to the
+ * service, or `null` if pre-warming is disabled, has failed, or has not yet completed.
+ */
+data class StartupTimings(
+    val properties: Duration,
+    val gson: Duration,
+    val client: Duration,
+    val api: Duration,
+    val prewarm: Duration? = null
+) {
+
+    /**
+     * Total time spent initializing, not including [prewarm].
+     */
+    val total: Duration
+        get() = properties.plus(gson).plus(client).plus(api)
+
+}
@@ -1,7 +1,9 @@
 package edu.cnm.deepdive.codebreaker.client.service
 
 import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus
 import edu.cnm.deepdive.codebreaker.api.model.Guess
+import java.time.Duration
 import java.util.concurrent.CompletableFuture
 
 /**
@@ -26,6 +28,36 @@ interface CodebreakerService {
      */
     fun getGame(gameId: String): CompletableFuture<Game>
 
+    /**
+     * Retrieves a lightweight status of the game with the specified ID: its scalar properties, the
+     * number of guesses, and the most recent guess, without the full guess history.
+     *
+     * @param gameId The unique identifier of the game.
+     * @return A [CompletableFuture] that will complete with the retrieved [GameStatus] object.
+     */
+    fun getGameStatus(gameId: String): CompletableFuture<GameStatus>
+
+    /**
+     * Retrieves the games with the specified IDs in a single request. IDs that do not identify an
+     * existing game are omitted from the result.
+     *
+     * @param gameIds The unique identifiers of the games to be retrieved.
+     * @return A [CompletableFuture] that will complete with the retrieved [Game] objects, in no
+     * particular order.
+     */
+    fun getGames(gameIds: Collection<String>): CompletableFuture<List<Game>>
+
+    /**
+     * Lists the games matching the specified query, most recently started first. The returned
+     * iterator requests pages from the service only as iteration reaches them (prefetching one
+     * page ahead); it blocks when it reaches a page that has not yet arrived, and throws the cause
+     * of any failed page request.
+     *
+     * @param query The [GameQuery] filters and page size.
+     * @return An [Iterator] over the matching [Game] objects.
+     */
+    fun listGames(query: GameQuery): Iterator<Game>
+
     /**
      * Deletes the game with the specified ID.
      *
@@ -34,16 +66,41 @@ interface CodebreakerService {
      */
     fun deleteGame(gameId: String): CompletableFuture<Void?>
 
+    /**
+     * Deletes the games with the specified IDs in a single request. IDs that do not identify an
+     * existing game are ignored.
+     *
+     * @param gameIds The unique identifiers of the games to be deleted.
+     * @return A [CompletableFuture] that will complete when the games have been deleted.
+     */
+    fun deleteGames(gameIds: Collection<String>): CompletableFuture<Void?>
+
     /**
      * Submits a guess for the specified game.
      *
      * @param game  The [Game] for which the guess is being submitted.
      * @param guess The [edu.cnm.deepdive.codebreaker.api.model.Guess] object containing the guess text.
      * @return A [CompletableFuture] that will complete with the submitted [edu.cnm.deepdive.codebreaker.api.model.Guess]
-     * response.
+     * response. If the guess is the solution, [Guess.getGame] of the response returns the solved
+     * [Game], with its secret code revealed. The guess is submitted unconditionally, regardless of
+     * any guesses submitted for the game since [game] was retrieved.
      */
     fun submitGuess(game: Game, guess: Guess): CompletableFuture<Guess>
 
+    /**
+     * Submits a guess for the specified game, on the condition that the game is still at
+     * [expectedVersion]: that is, that exactly [expectedVersion] guesses have been submitted for it.
+     * Callers that keep [game] up to date as guesses are scored will usually pass the size of its
+     * guess history.
+     *
+     * @param game            The [Game] for which the guess is being submitted.
+     * @param guess           The [Guess] object containing the guess text.
+     * @param expectedVersion The number of guesses the caller expects the game to have.
+     * @return A [CompletableFuture] that will complete as for [submitGuess], or fail with a
+     * [GameConflictException] carrying the changes if the game is no longer at [expectedVersion].
+     */
+    fun submitGuess(game: Game, guess: Guess, expectedVersion: Int): CompletableFuture<Guess>
+
     /**
      * Retrieves the guess with the specified ID for a given game.
      *
@@ -54,10 +111,59 @@ interface CodebreakerService {
     fun getGuess(gameId: String, guessId: String): CompletableFuture<Guess>
 
     /**
-     * Terminates the service and stops any background processing.
+     * Returns a view of this service that issues all of its requests in the specified lane. The
+     * returned service shares connections with this one, but not its dispatcher queue.
+     *
+     * @param priority The [RequestPriority] lane for requests made through the returned service.
+     * @return A [CodebreakerService] bound to the specified lane.
+     */
+    fun withPriority(priority: RequestPriority): CodebreakerService
+
+    /**
+     * Snapshot of the dispatcher queues and connection pool utilization of this service, or `null`
+     * if the service has not finished initializing (see [warmUp]). Reading this property never
+     * blocks, so it is safe on a UI thread.
+     */
+    val stats: ClientStats?
+
+    /**
+     * Returns a future that completes when this service has finished initializing, and (if
+     * `prewarm` is enabled in `service.properties`; it is disabled by default) has opened a
+     * connection to the service. The
+     * service initializes itself on a background thread when first referenced, so invoking this
+     * method early (e.g. at application startup) keeps that work off the path of the first request.
+     *
+     * @return A [CompletableFuture] that will complete when the service is ready for use.
+     */
+    fun warmUp(): CompletableFuture<Void?>
+
+    /**
+     * Terminates the service and stops any background processing, after draining outstanding
+     * requests for up to `shutdownDrainMillis` (from `service.properties`); this is equivalent to
+     * invoking [shutdown] with that timeout.
      */
     fun shutdown()
 
+    /**
+     * Terminates the service gracefully. Any pending batched retrievals are sent immediately, and
+     * any speculatively started game is deleted, waiting for the deletion to complete; the service
+     * then stops accepting new requests (which fail with a
+     * [java.util.concurrent.RejectedExecutionException]) and waits for outstanding requests to
+     * complete. Both waits share [timeout]; requests still outstanding at the deadline are
+     * cancelled. Finally, fixture logs and the HTTP cache are flushed and closed, and the HTTP
+     * clients are torn down.
+     *
+     * If `speculativeStart` is enabled in `service.properties`, a client that exits without
+     * invoking this method (e.g. an Android process that is killed) leaves its speculatively
+     * started game, if any, on the service, where it is listed as an unplayed game.
+     *
+     * @param timeout The maximum time to wait for the speculatively started game to be deleted
+     * and for outstanding requests to complete.
+     * @return `true` if all outstanding requests completed, and any speculatively started game was
+     * deleted, before the deadline; `false` otherwise.
+     */
+    fun shutdown(timeout: Duration): Boolean
+
     companion object {
         @JvmStatic
         val instance: CodebreakerService
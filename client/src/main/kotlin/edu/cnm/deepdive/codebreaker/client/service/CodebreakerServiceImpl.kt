@@ -17,106 +17,630 @@ package edu.cnm.deepdive.codebreaker.client.service
 
 import com.google.gson.Gson
 import com.google.gson.GsonBuilder
+import com.google.gson.JsonParseException
 import com.google.gson.TypeAdapter
 import com.google.gson.stream.JsonReader
 import com.google.gson.stream.JsonWriter
 import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.GameDelta
+import edu.cnm.deepdive.codebreaker.api.model.GamePage
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus
 import edu.cnm.deepdive.codebreaker.api.model.Guess
 import edu.cnm.deepdive.codebreaker.api.service.CodebreakerApi
+import kotlinx.coroutines.future.await
+import kotlinx.coroutines.suspendCancellableCoroutine
+import okhttp3.Cache
+import okhttp3.ConnectionPool
+import okhttp3.Dispatcher
+import okhttp3.EventListener
+import okhttp3.HttpUrl.Companion.toHttpUrl
 import okhttp3.Interceptor
 import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import okhttp3.Request
 import okhttp3.logging.HttpLoggingInterceptor
 import retrofit2.Call
 import retrofit2.Callback
 import retrofit2.Response
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
+import java.io.File
 import java.io.IOException
+import java.time.Duration
 import java.time.OffsetDateTime
 import java.util.Properties
 import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.SynchronousQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
 import java.util.function.Supplier
 import java.util.stream.Collectors
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
+import kotlin.math.max
 
 internal object CodebreakerServiceImpl : CodebreakerService {
-    private val client: OkHttpClient
-    private val api: CodebreakerApi
+    private val context: CompletableFuture<ServiceContext> =
+        CompletableFuture.supplyAsync({ buildContext() }, STARTUP_EXECUTOR)
+    private val warmedUp: CompletableFuture<Void?> = context.thenCompose { it.prewarm() }
+    private val lanes: Map<RequestPriority, CodebreakerService> =
+        RequestPriority.entries.associateWith { PrioritizedService(it) }
+    private val batchers: CompletableFuture<Map<RequestPriority, GameBatcher>> =
+        context.thenApply(::buildBatchers)
+    private val starter: CompletableFuture<SpeculativeStarter?> =
+        context.thenApply(::buildStarter)
+    private val guessMemo: CompletableFuture<GuessMemo?> =
+        context.thenApply(::buildGuessMemo)
 
-    init {
-        val properties = loadProperties()
-        val gson = buildGson()
-        client = buildClient(properties)
-        api = buildApi(properties, gson, client)
+    override fun startGame(game: Game): CompletableFuture<Game> {
+        return startGame(game, RequestPriority.INTERACTIVE)
     }
 
-    override fun startGame(game: Game): CompletableFuture<Game> {
+    override fun getGame(gameId: String): CompletableFuture<Game> {
+        return getGame(gameId, RequestPriority.INTERACTIVE)
+    }
+
+    override fun getGameStatus(gameId: String): CompletableFuture<GameStatus> {
+        return getGameStatus(gameId, RequestPriority.INTERACTIVE)
+    }
+
+    override fun getGames(gameIds: Collection<String>): CompletableFuture<List<Game>> {
+        return getGames(gameIds, RequestPriority.INTERACTIVE)
+    }
+
+    override fun listGames(query: GameQuery): Iterator<Game> {
+        return listGames(query, RequestPriority.INTERACTIVE)
+    }
+
+    override fun deleteGame(gameId: String): CompletableFuture<Void?> {
+        return deleteGame(gameId, RequestPriority.INTERACTIVE)
+    }
+
+    override fun deleteGames(gameIds: Collection<String>): CompletableFuture<Void?> {
+        return deleteGames(gameIds, RequestPriority.INTERACTIVE)
+    }
+
+    override fun submitGuess(game: Game, guess: Guess): CompletableFuture<Guess> {
+        return submitGuess(game, guess, null, RequestPriority.INTERACTIVE)
+    }
+
+    override fun submitGuess(
+        game: Game,
+        guess: Guess,
+        expectedVersion: Int
+    ): CompletableFuture<Guess> {
+        return submitGuess(game, guess, expectedVersion, RequestPriority.INTERACTIVE)
+    }
+
+    override fun getGuess(gameId: String, guessId: String): CompletableFuture<Guess> {
+        return getGuess(gameId, guessId, RequestPriority.INTERACTIVE)
+    }
+
+    override fun withPriority(priority: RequestPriority): CodebreakerService {
+        return lanes.getValue(priority)
+    }
+
+    override val stats: ClientStats?
+        get() = context.getNow(null)?.stats()
+
+    override fun warmUp(): CompletableFuture<Void?> {
+        return warmedUp
+    }
+
+    override fun shutdown() {
+        context
+            .thenAccept { serviceContext ->
+                shutdown(
+                    Duration.ofMillis(
+                        serviceContext.properties.getProperty(SHUTDOWN_DRAIN_MILLIS_KEY).toLong()
+                    )
+                )
+            }
+            .exceptionally { null }
+            .join()
+    }
+
+    override fun shutdown(timeout: Duration): Boolean {
+        return context
+            .thenApply { serviceContext ->
+                val deadline = System.nanoTime() + timeout.toNanos()
+                batchers.join().values.forEach(GameBatcher::flush)
+                val discarded = starter.join()?.close(timeout) ?: true
+                val remaining = Duration.ofNanos(max(0L, deadline - System.nanoTime()))
+                serviceContext.shutdown(remaining) && discarded
+            }
+            .exceptionally { true }
+            .join()
+    }
+
+    private fun startGame(game: Game, priority: RequestPriority): CompletableFuture<Game> {
         return if (isValidGame(game))
-            buildStartGameFuture(game)
+            starter.thenCompose { starter ->
+                starter?.startGame(game, priority) ?: buildStartGameFuture(game, priority)
+            }
         else
             CompletableFuture.failedFuture(InvalidPayloadException())
     }
 
-    override fun getGame(gameId: String): CompletableFuture<Game> {
-        return buildGetGameFuture(gameId)
+    private fun getGame(gameId: String, priority: RequestPriority): CompletableFuture<Game> {
+        return batchers.thenCompose { batchers ->
+            batchers[priority]?.getGame(gameId) ?: buildGetGameFuture(gameId, priority)
+        }
     }
 
-    override fun deleteGame(gameId: String): CompletableFuture<Void?> {
-        return buildDeleteGameFuture(gameId)
+    private fun getGameStatus(
+        gameId: String,
+        priority: RequestPriority
+    ): CompletableFuture<GameStatus> {
+        return buildGetGameStatusFuture(gameId, priority)
     }
 
-    override fun submitGuess(game: Game, guess: Guess): CompletableFuture<Guess> {
+    private fun getGames(
+        gameIds: Collection<String>,
+        priority: RequestPriority
+    ): CompletableFuture<List<Game>> {
+        return if (gameIds.isEmpty())
+            CompletableFuture.completedFuture(listOf())
+        else
+            buildGetGamesFuture(gameIds, priority)
+    }
+
+    private fun listGames(query: GameQuery, priority: RequestPriority): Iterator<Game> {
+        return GamePageIterator { cursor -> buildGetGamePageFuture(query, cursor, priority) }
+    }
+
+    private fun deleteGame(gameId: String, priority: RequestPriority): CompletableFuture<Void?> {
+        return buildDeleteGameFuture(gameId, priority)
+    }
+
+    private fun deleteGames(
+        gameIds: Collection<String>,
+        priority: RequestPriority
+    ): CompletableFuture<Void?> {
+        return if (gameIds.isEmpty())
+            CompletableFuture.completedFuture(null)
+        else
+            buildDeleteGamesFuture(gameIds, priority)
+    }
+
+    private fun submitGuess(
+        game: Game,
+        guess: Guess,
+        expectedVersion: Int?,
+        priority: RequestPriority
+    ): CompletableFuture<Guess> {
         return if (isValidGuess(game, guess))
-            buildSubmitGuessFuture(game, guess)
+            guessMemo.thenCompose { memo ->
+                memo
+                    ?.lookup(game, guess)
+                    ?.let { CompletableFuture.completedFuture(it) }
+                    ?: buildSubmitGuessFuture(game, guess, expectedVersion, priority)
+                        .thenApply { scored -> scored.also { memo?.record(game, it) } }
+            }
         else
             CompletableFuture.failedFuture(InvalidPayloadException())
     }
 
-    override fun getGuess(gameId: String, guessId: String): CompletableFuture<Guess> {
-        return buildGetGuessFuture(gameId, guessId)
+    private fun getGuess(
+        gameId: String,
+        guessId: String,
+        priority: RequestPriority
+    ): CompletableFuture<Guess> {
+        return buildGetGuessFuture(gameId, guessId, priority)
     }
 
-    override fun shutdown() {
-        client.dispatcher.executorService.use { executor ->
-            executor.shutdown()
-            client.connectionPool.evictAll()
+    private fun buildStartGameFuture(
+        game: Game,
+        priority: RequestPriority
+    ): CompletableFuture<Game> {
+        return enqueue(priority) { api -> api.startGame(game) }
+    }
+
+    private fun buildGetGameFuture(
+        gameId: String,
+        priority: RequestPriority
+    ): CompletableFuture<Game> {
+        return enqueue(priority) { api -> api.getGame(gameId) }
+    }
+
+    private fun buildGetGameStatusFuture(
+        gameId: String,
+        priority: RequestPriority
+    ): CompletableFuture<GameStatus> {
+        return enqueue(priority) { api -> api.getGameStatus(gameId) }
+    }
+
+    private fun buildGetGamesFuture(
+        gameIds: Collection<String>,
+        priority: RequestPriority
+    ): CompletableFuture<List<Game>> {
+        return enqueue(priority) { api ->
+            api.getGames(
+                gameIds.joinToString(GAME_ID_SEPARATOR), null, null, null, null, null, null, null
+            )
         }
+            .thenApply { page -> page.games }
     }
 
-    private fun buildStartGameFuture(game: Game): CompletableFuture<Game> {
-        return CompletableFuture<Game>().apply {
-            api.startGame(game).enqueue(ServiceCallback(this))
+    private fun buildGetGamePageFuture(
+        query: GameQuery,
+        cursor: String?,
+        priority: RequestPriority
+    ): CompletableFuture<GamePage> {
+        return enqueue(priority) { api ->
+            with(query) {
+                api.getGames(
+                    null, solved, pool, length, startedAfter, startedBefore, cursor, pageSize
+                )
+            }
         }
     }
 
-    private fun buildGetGameFuture(gameId: String): CompletableFuture<Game> {
-        return CompletableFuture<Game>().apply {
-            api.getGame(gameId).enqueue(ServiceCallback(this))
+    private fun buildDeleteGameFuture(
+        gameId: String,
+        priority: RequestPriority
+    ): CompletableFuture<Void?> {
+        return enqueue(priority) { api -> api.deleteGame(gameId) }
+    }
+
+    private fun buildDeleteGamesFuture(
+        gameIds: Collection<String>,
+        priority: RequestPriority
+    ): CompletableFuture<Void?> {
+        return enqueue(priority) { api ->
+            api.deleteGames(gameIds.joinToString(GAME_ID_SEPARATOR), null)
         }
     }
 
-    private fun buildDeleteGameFuture(gameId: String): CompletableFuture<Void?> {
-        return CompletableFuture<Void?>().apply {
-            api.deleteGame(gameId).enqueue(ServiceCallback(this))
+    private fun buildSubmitGuessFuture(
+        game: Game,
+        guess: Guess?,
+        expectedVersion: Int?,
+        priority: RequestPriority
+    ): CompletableFuture<Guess> {
+        return enqueue(priority) { api ->
+            api.submitGuess(game.id, guess, expectedVersion?.let(::entityTag))
         }
     }
 
-    private fun buildSubmitGuessFuture(game: Game, guess: Guess?): CompletableFuture<Guess> {
-        return CompletableFuture<Guess>().apply {
-            api.submitGuess(game.id, guess).enqueue(ServiceCallback(this))
+    private fun buildGetGuessFuture(
+        gameId: String,
+        guessId: String,
+        priority: RequestPriority
+    ): CompletableFuture<Guess> {
+        return enqueue(priority) { api -> api.getGuess(gameId, guessId) }
+    }
+
+    private fun buildBatchers(context: ServiceContext): Map<RequestPriority, GameBatcher> {
+        val window = context.properties.getProperty(BATCH_WINDOW_MILLIS_KEY).toLong()
+        return if (window > 0) {
+            val maxSize = context.properties.getProperty(BATCH_MAX_SIZE_KEY).toInt()
+            RequestPriority.entries.associateWith { priority ->
+                GameBatcher(Duration.ofMillis(window), maxSize, context.scheduler) { gameIds ->
+                    buildGetGamesFuture(gameIds, priority)
+                }
+            }
+        } else {
+            mapOf()
         }
     }
 
-    private fun buildGetGuessFuture(gameId: String, guessId: String): CompletableFuture<Guess> {
-        return CompletableFuture<Guess>().apply {
-            api.getGuess(gameId, guessId).enqueue(ServiceCallback(this))
+    private fun buildStarter(context: ServiceContext): SpeculativeStarter? {
+        return if (context.properties.getProperty(SPECULATIVE_START_KEY).toBoolean()) {
+            SpeculativeStarter(
+                ::buildStartGameFuture,
+                { game -> buildStartGameFuture(game, RequestPriority.BACKGROUND) },
+                { gameId -> buildDeleteGameFuture(gameId, RequestPriority.BACKGROUND) }
+            )
+        } else {
+            null
         }
     }
+
+    private fun buildGuessMemo(context: ServiceContext): GuessMemo? {
+        val maxGames = context.properties.getProperty(GUESS_MEMO_MAX_GAMES_KEY).toInt()
+        return if (maxGames > 0) GuessMemo(maxGames) else null
+    }
+
+    /**
+     * Issues a call in the lane given by [priority], suspending (rather than returning a future)
+     * until it completes. Cancelling the calling coroutine cancels the call.
+     */
+    internal suspend fun <T> execute(
+        priority: RequestPriority,
+        callFactory: (CodebreakerApi) -> Call<T>
+    ): T {
+        val serviceContext = context.await()
+        val call = callFactory(serviceContext.api(priority))
+        serviceContext.gate.admit(priority, call.request().url).await()
+        val completion = serviceContext.timeouts?.track(call)
+        return try {
+            call.awaitBody().also { completion?.invoke(null) }
+        } catch (e: Throwable) {
+            completion?.invoke(e)
+            throw e
+        } finally {
+            serviceContext.bursts?.touch()
+        }
+    }
+
+    /**
+     * Returns the batcher for game retrievals in the lane given by [priority], or `null` if
+     * batching is disabled.
+     */
+    internal suspend fun batcher(priority: RequestPriority): GameBatcher? {
+        return batchers.await()[priority]
+    }
+
+    /**
+     * Returns the speculative game starter, or `null` if speculative starts are disabled.
+     */
+    internal suspend fun starter(): SpeculativeStarter? {
+        return starter.await()
+    }
+
+    /**
+     * Returns the memo of scored guesses, or `null` if guess memoization is disabled.
+     */
+    internal suspend fun guessMemo(): GuessMemo? {
+        return guessMemo.await()
+    }
+
+    private fun <T> enqueue(
+        priority: RequestPriority,
+        callFactory: (CodebreakerApi) -> Call<T>
+    ): CompletableFuture<T> {
+        return context.thenCompose { serviceContext ->
+            CompletableFuture<T>().apply {
+                val call = callFactory(serviceContext.api(priority))
+                serviceContext.bursts?.let { bursts -> whenComplete { _, _ -> bursts.touch() } }
+                val permit = serviceContext.gate.admit(priority, call.request().url)
+                whenComplete { _, _ -> permit.cancel(false) }
+                permit.whenComplete { _, throwable ->
+                    if (throwable != null) {
+                        completeExceptionally(throwable)
+                    } else if (!isDone) {
+                        serviceContext.timeouts
+                            ?.track(call)
+                            ?.let { completion ->
+                                whenComplete { _, throwable -> completion(throwable) }
+                            }
+                        call.enqueue(ServiceCallback(this))
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Routes every operation through the enclosing service, in the lane given by [priority].
+     */
+    private class PrioritizedService(private val priority: RequestPriority) : CodebreakerService {
+
+        override fun startGame(game: Game): CompletableFuture<Game> {
+            return CodebreakerServiceImpl.startGame(game, priority)
+        }
+
+        override fun getGame(gameId: String): CompletableFuture<Game> {
+            return CodebreakerServiceImpl.getGame(gameId, priority)
+        }
+
+        override fun getGameStatus(gameId: String): CompletableFuture<GameStatus> {
+            return CodebreakerServiceImpl.getGameStatus(gameId, priority)
+        }
+
+        override fun getGames(gameIds: Collection<String>): CompletableFuture<List<Game>> {
+            return CodebreakerServiceImpl.getGames(gameIds, priority)
+        }
+
+        override fun listGames(query: GameQuery): Iterator<Game> {
+            return CodebreakerServiceImpl.listGames(query, priority)
+        }
+
+        override fun deleteGame(gameId: String): CompletableFuture<Void?> {
+            return CodebreakerServiceImpl.deleteGame(gameId, priority)
+        }
+
+        override fun deleteGames(gameIds: Collection<String>): CompletableFuture<Void?> {
+            return CodebreakerServiceImpl.deleteGames(gameIds, priority)
+        }
+
+        override fun submitGuess(game: Game, guess: Guess): CompletableFuture<Guess> {
+            return CodebreakerServiceImpl.submitGuess(game, guess, null, priority)
+        }
+
+        override fun submitGuess(
+            game: Game,
+            guess: Guess,
+            expectedVersion: Int
+        ): CompletableFuture<Guess> {
+            return CodebreakerServiceImpl.submitGuess(game, guess, expectedVersion, priority)
+        }
+
+        override fun getGuess(gameId: String, guessId: String): CompletableFuture<Guess> {
+            return CodebreakerServiceImpl.getGuess(gameId, guessId, priority)
+        }
+
+        override fun withPriority(priority: RequestPriority): CodebreakerService {
+            return CodebreakerServiceImpl.withPriority(priority)
+        }
+
+        override val stats: ClientStats?
+            get() = CodebreakerServiceImpl.stats
+
+        override fun warmUp(): CompletableFuture<Void?> {
+            return CodebreakerServiceImpl.warmUp()
+        }
+
+        override fun shutdown() {
+            CodebreakerServiceImpl.shutdown()
+        }
+
+        override fun shutdown(timeout: Duration): Boolean {
+            return CodebreakerServiceImpl.shutdown(timeout)
+        }
+
+    }
 }
 
-private class OffsetDateTimeAdapter : TypeAdapter<OffsetDateTime?>() {
+/**
+ * Holds everything built from `service.properties`: the HTTP clients and API transports for each
+ * lane, the scheduler for delayed work, and the rate limiter shared by the lanes, along with the
+ * time taken to build them.
+ */
+private class ServiceContext(
+    val properties: Properties,
+    val clients: Map<RequestPriority, OkHttpClient>,
+    val apis: Map<RequestPriority, CodebreakerApi>,
+    val latencies: ServerTimingListener?,
+    val scheduler: ScheduledExecutorService,
+    val limiter: RateLimiter?,
+    @Volatile var startup: StartupTimings
+) {
+
+    val timeouts: AdaptiveTimeouts? = buildTimeouts(properties)
+
+    val bursts: BurstScheduler? = buildBursts(properties, scheduler)
+
+    val gate = RequestGate(bursts, limiter)
+
+    @Volatile
+    private var accepting = true
+
+    /**
+     * Returns the API for the lane given by [priority], or throws [RejectedExecutionException] if
+     * the service has begun shutting down.
+     */
+    fun api(priority: RequestPriority): CodebreakerApi {
+        if (!accepting) {
+            throw RejectedExecutionException(SHUT_DOWN_MESSAGE)
+        }
+        return apis.getValue(priority)
+    }
+
+    fun prewarm(): CompletableFuture<Void?> {
+        return if (properties.getProperty(PREWARM_KEY).toBoolean()) {
+            openConnection(
+                clients.getValue(RequestPriority.INTERACTIVE), properties.getProperty(BASE_URL_KEY)
+            )
+                .thenAccept { elapsed -> startup = startup.copy(prewarm = elapsed) }
+                .exceptionally { null }
+        } else {
+            CompletableFuture.completedFuture(null)
+        }
+    }
+
+    fun stats(): ClientStats {
+        val client = clients.getValue(RequestPriority.INTERACTIVE)
+        val pool = client.connectionPool
+        return ClientStats(
+            clients.mapValues { (_, laneClient) ->
+                with(laneClient.dispatcher) {
+                    LaneStats(
+                        queuedCallsCount(), runningCallsCount(), maxRequests, maxRequestsPerHost
+                    )
+                }
+            },
+            pool.connectionCount(),
+            pool.idleConnectionCount(),
+            properties.getProperty(MAX_IDLE_CONNECTIONS_KEY).toInt(),
+            startup,
+            client.cache?.let { cache ->
+                CacheStats(
+                    cache.requestCount(),
+                    cache.networkCount(),
+                    cache.hitCount(),
+                    cache.maxSize()
+                )
+            },
+            timeouts?.snapshot() ?: mapOf(),
+            latencies?.snapshot() ?: mapOf(),
+            bursts?.deferredCount ?: 0
+        )
+    }
+
+    fun shutdown(timeout: Duration): Boolean {
+        accepting = false
+        gate.close()
+        val drained = awaitIdle(timeout)
+        if (!drained) {
+            clients.values.forEach { client -> client.dispatcher.cancelAll() }
+        }
+        scheduler.shutdown()
+        clients.values.forEach { client ->
+            client.dispatcher.executorService.use { executor ->
+                executor.shutdown()
+            }
+        }
+        with(clients.getValue(RequestPriority.INTERACTIVE)) {
+            connectionPool.evictAll()
+            cache?.close()
+            interceptors.filterIsInstance<FixtureRecorder>().forEach(FixtureRecorder::close)
+        }
+        return drained
+    }
+
+    /**
+     * Waits until no calls are queued or running in any lane, or until [timeout] has elapsed,
+     * whichever comes first. Since a call is only counted as finished after its callback has run,
+     * the futures of all drained calls have been completed when this method returns `true`.
+     *
+     * Rather than polling, this waits on each lane's [Dispatcher.idleCallback], which OkHttp
+     * invokes when the last running call of that dispatcher finishes. A lane may become busy again
+     * after going idle (e.g. when a completed call's callback enqueues a follow-up request), so
+     * the lanes are checked again each time all of them have gone idle.
+     */
+    private fun awaitIdle(timeout: Duration): Boolean {
+        val deadline = System.nanoTime() + timeout.toNanos()
+        val dispatchers = clients.values.map(OkHttpClient::dispatcher).distinct()
+        try {
+            while (dispatchers.any { dispatcher -> !dispatcher.isIdle() }) {
+                CompletableFuture
+                    .allOf(*dispatchers.map { dispatcher -> dispatcher.idle() }.toTypedArray())
+                    .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+            }
+            return true
+        } catch (e: TimeoutException) {
+            return false
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+            return false
+        } finally {
+            dispatchers.forEach { dispatcher -> dispatcher.idleCallback = null }
+        }
+    }
+
+    private fun Dispatcher.isIdle(): Boolean {
+        return queuedCallsCount() == 0 && runningCallsCount() == 0
+    }
+
+    /**
+     * Returns a future that completes when this dispatcher next becomes idle, or immediately if it
+     * already is.
+     */
+    private fun Dispatcher.idle(): CompletableFuture<Void?> {
+        val idle = CompletableFuture<Void?>()
+        idleCallback = Runnable { idle.complete(null) }
+        if (isIdle()) {
+            idle.complete(null)
+        }
+        return idle
+    }
+
+}
+
+internal class OffsetDateTimeAdapter : TypeAdapter<OffsetDateTime?>() {
     @Throws(IOException::class)
     override fun write(jsonWriter: JsonWriter, offsetDateTime: OffsetDateTime?) {
-        jsonWriter.jsonValue(offsetDateTime?.toString())
+        jsonWriter.value(offsetDateTime?.toString())
     }
 
     @Throws(IOException::class)
@@ -125,21 +649,13 @@ private class OffsetDateTimeAdapter : TypeAdapter<OffsetDateTime?>() {
     }
 }
 
-private class ServiceCallback<T>(private val future: CompletableFuture<T>) : Callback<T> {
+internal class ServiceCallback<T>(private val future: CompletableFuture<T>) : Callback<T> {
     override fun onResponse(call: Call<T>, response: Response<T>) {
         val future = this.future
         if (response.isSuccessful) {
             future.complete(response.body())
         } else {
-            future.completeExceptionally(
-                CODES_TO_EXCEPTIONS.getOrDefault(
-                    response.code(),
-                    Supplier {
-                        UnknownServiceException()
-                    }
-                )
-                    .get()
-            )
+            future.completeExceptionally(exceptionFor(response))
         }
     }
 
@@ -149,9 +665,100 @@ private class ServiceCallback<T>(private val future: CompletableFuture<T>) : Cal
 
 }
 
+/**
+ * Enqueues this call and suspends until it completes, returning the response body or throwing the
+ * exception mapped from an unsuccessful response. Cancelling the calling coroutine cancels the call.
+ */
+internal suspend fun <T> Call<T>.awaitBody(): T {
+    return suspendCancellableCoroutine { continuation ->
+        continuation.invokeOnCancellation { cancel() }
+        enqueue(object : Callback<T> {
+            override fun onResponse(call: Call<T>, response: Response<T>) {
+                if (response.isSuccessful) {
+                    @Suppress("UNCHECKED_CAST")
+                    continuation.resume(response.body() as T)
+                } else {
+                    continuation.resumeWithException(exceptionFor(response))
+                }
+            }
+
+            override fun onFailure(call: Call<T>, throwable: Throwable) {
+                continuation.resumeWithException(throwable)
+            }
+        })
+    }
+}
+
+private fun exceptionFor(response: Response<*>): Throwable {
+    return if (response.code() == PRECONDITION_FAILED)
+        GameConflictException(readDelta(response))
+    else
+        CODES_TO_EXCEPTIONS.getOrDefault(
+            response.code(),
+            Supplier {
+                UnknownServiceException()
+            }
+        )
+            .get()
+}
+
+private fun readDelta(response: Response<*>): GameDelta? {
+    return try {
+        response.errorBody()?.charStream()?.use { reader ->
+            ERROR_GSON.fromJson(reader, GameDelta::class.java)
+        }
+    } catch (e: JsonParseException) {
+        null
+    } catch (e: IOException) {
+        null
+    }
+}
+
 private const val PROPERTIES_FILE = "service.properties"
 private const val LOG_LEVEL_KEY = "logLevel"
 private const val BASE_URL_KEY = "baseUrl"
+private const val SYSTEM_PROPERTY_PREFIX = "codebreaker."
+private const val MAX_REQUESTS_KEY = "maxRequests"
+private const val MAX_REQUESTS_PER_HOST_KEY = "maxRequestsPerHost"
+private const val MAX_IDLE_CONNECTIONS_KEY = "maxIdleConnections"
+private const val KEEP_ALIVE_SECONDS_KEY = "keepAliveSeconds"
+private const val H2_PRIOR_KNOWLEDGE_KEY = "h2PriorKnowledge"
+private const val CACHE_DIRECTORY_KEY = "cacheDirectory"
+private const val CACHE_MAX_SIZE_KEY = "cacheMaxSize"
+private const val BATCH_WINDOW_MILLIS_KEY = "getGameBatchWindowMillis"
+private const val BATCH_MAX_SIZE_KEY = "getGameBatchMaxSize"
+private const val GAME_ID_SEPARATOR = ","
+private const val SCHEDULER_THREAD_NAME = "Codebreaker Scheduler"
+private const val FAULT_PROFILE_KEY = "faultProfile"
+private const val FIXTURE_MODE_KEY = "fixtureMode"
+private const val FIXTURE_FILE_KEY = "fixtureFile"
+private const val FIXTURE_TIMING_KEY = "fixtureTiming"
+private const val TRANSPORT_KEY = "transport"
+private const val MAX_RESPONSE_BYTES_KEY = "maxResponseBytes"
+private const val SPECULATIVE_START_KEY = "speculativeStart"
+private const val GUESS_MEMO_MAX_GAMES_KEY = "guessMemoMaxGames"
+private const val SHUTDOWN_DRAIN_MILLIS_KEY = "shutdownDrainMillis"
+private const val RATE_LIMIT_PER_SECOND_KEY = "rateLimitPerSecond"
+private const val RATE_LIMIT_BURST_KEY = "rateLimitBurst"
+private const val RATE_LIMIT_INTERACTIVE_RESERVE_KEY = "rateLimitInteractiveReserve"
+private const val ADAPTIVE_TIMEOUTS_KEY = "adaptiveTimeouts"
+private const val TIMEOUT_PERCENTILE_KEY = "timeoutPercentile"
+private const val TIMEOUT_MULTIPLIER_KEY = "timeoutMultiplier"
+private const val TIMEOUT_FLOOR_MILLIS_KEY = "timeoutFloorMillis"
+private const val TIMEOUT_CEILING_MILLIS_KEY = "timeoutCeilingMillis"
+private const val TIMEOUT_WINDOW_SIZE_KEY = "timeoutWindowSize"
+private const val TIMEOUT_MIN_SAMPLES_KEY = "timeoutMinSamples"
+private const val LATENCY_WINDOW_SIZE_KEY = "latencyWindowSize"
+private const val BURST_MAX_DELAY_MILLIS_KEY = "burstMaxDelayMillis"
+private const val BURST_MAX_SIZE_KEY = "burstMaxSize"
+private const val BURST_TAIL_MILLIS_KEY = "burstTailMillis"
+private const val SHUT_DOWN_MESSAGE = "Service has been shut down"
+private const val PRECONDITION_FAILED = 412
+private const val PREWARM_KEY = "prewarm"
+private const val STARTUP_THREAD_NAME = "Codebreaker Startup"
+private const val BACKGROUND_MAX_REQUESTS_PER_HOST_KEY = "backgroundMaxRequestsPerHost"
+private const val BACKGROUND_THREAD_NAME_PREFIX = "Codebreaker Background "
+private const val BACKGROUND_THREAD_KEEP_ALIVE_SECONDS = 60L
 private const val MIN_CODE_LENGTH = 1
 private const val MAX_CODE_LENGTH = 20
 private const val MIN_POOL_LENGTH = 1
@@ -162,9 +769,114 @@ private val CODES_TO_EXCEPTIONS: Map<Int, Supplier<Throwable>> =
         400 to Supplier { InvalidPayloadException() },
         404 to Supplier { ResourceNotFoundException() },
         409 to Supplier { GameSolvedException() },
+        429 to Supplier { RateLimitedException() },
         500 to Supplier { UnknownServiceException() }
     )
 
+private val ERROR_GSON: Gson by lazy { buildGson() }
+
+private val STARTUP_EXECUTOR = Executor { runnable ->
+    Thread(runnable, STARTUP_THREAD_NAME).apply {
+        isDaemon = true
+        start()
+    }
+}
+
+private fun buildContext(): ServiceContext {
+    var mark = System.nanoTime()
+    fun lap(): Duration {
+        val now = System.nanoTime()
+        return Duration.ofNanos(now - mark).also { mark = now }
+    }
+
+    val properties = loadProperties()
+    val propertiesTime = lap()
+    val gson = buildGson()
+    val gsonTime = lap()
+    val latencies = buildServerTimingListener(properties)
+    val scheduler = buildScheduler()
+    val limiter = buildLimiter(properties, scheduler)
+    val client = buildClient(properties, latencies, limiter)
+    val clients = RequestPriority.entries.associateWith { buildLaneClient(properties, client, it) }
+    val clientTime = lap()
+    val apis = clients.mapValues { (_, laneClient) -> buildApi(properties, gson, laneClient) }
+    val apiTime = lap()
+    return ServiceContext(
+        properties,
+        clients,
+        apis,
+        latencies,
+        scheduler,
+        limiter,
+        StartupTimings(propertiesTime, gsonTime, clientTime, apiTime)
+    )
+}
+
+private fun buildScheduler(): ScheduledExecutorService {
+    return Executors.newSingleThreadScheduledExecutor { runnable ->
+        Thread(runnable, SCHEDULER_THREAD_NAME).apply { isDaemon = true }
+    }
+}
+
+private fun buildLimiter(
+    properties: Properties,
+    scheduler: ScheduledExecutorService
+): RateLimiter? {
+    return properties.getProperty(RATE_LIMIT_PER_SECOND_KEY)
+        .toDouble()
+        .takeIf { it > 0 }
+        ?.let { rate ->
+            RateLimiter(
+                rate,
+                properties.getProperty(RATE_LIMIT_BURST_KEY).toInt(),
+                properties.getProperty(RATE_LIMIT_INTERACTIVE_RESERVE_KEY).toInt(),
+                scheduler
+            )
+        }
+}
+
+private fun buildTimeouts(properties: Properties): AdaptiveTimeouts? {
+    return if (properties.getProperty(ADAPTIVE_TIMEOUTS_KEY).toBoolean()) {
+        AdaptiveTimeouts(
+            properties.getProperty(BASE_URL_KEY).toHttpUrl(),
+            properties.getProperty(TIMEOUT_PERCENTILE_KEY).toDouble(),
+            properties.getProperty(TIMEOUT_MULTIPLIER_KEY).toDouble(),
+            Duration.ofMillis(properties.getProperty(TIMEOUT_FLOOR_MILLIS_KEY).toLong()),
+            Duration.ofMillis(properties.getProperty(TIMEOUT_CEILING_MILLIS_KEY).toLong()),
+            properties.getProperty(TIMEOUT_WINDOW_SIZE_KEY).toInt(),
+            properties.getProperty(TIMEOUT_MIN_SAMPLES_KEY).toInt()
+        )
+    } else {
+        null
+    }
+}
+
+private fun buildBursts(
+    properties: Properties,
+    scheduler: ScheduledExecutorService
+): BurstScheduler? {
+    return properties.getProperty(BURST_MAX_DELAY_MILLIS_KEY)
+        .toLong()
+        .takeIf { it > 0 }
+        ?.let { maxDelay ->
+            BurstScheduler(
+                Duration.ofMillis(maxDelay),
+                properties.getProperty(BURST_MAX_SIZE_KEY).toInt(),
+                Duration.ofMillis(properties.getProperty(BURST_TAIL_MILLIS_KEY).toLong()),
+                scheduler
+            )
+        }
+}
+
+private fun buildServerTimingListener(properties: Properties): ServerTimingListener? {
+    return properties.getProperty(LATENCY_WINDOW_SIZE_KEY)
+        .toInt()
+        .takeIf { it > 0 }
+        ?.let { windowSize ->
+            ServerTimingListener(properties.getProperty(BASE_URL_KEY).toHttpUrl(), windowSize)
+        }
+}
+
 private fun loadProperties(): Properties {
     val properties = Properties()
     try {
@@ -174,41 +886,198 @@ private fun loadProperties(): Properties {
             PROPERTIES_FILE
         ).use { input ->
             properties.load(input)
-            return properties
         }
     } catch (e: IOException) {
         throw RuntimeException(e)
     }
+    System.getProperties().stringPropertyNames()
+        .filter { it.startsWith(SYSTEM_PROPERTY_PREFIX) }
+        .forEach { name ->
+            properties.setProperty(
+                name.substring(SYSTEM_PROPERTY_PREFIX.length), System.getProperty(name)
+            )
+        }
+    return properties
 }
 
-private fun buildGson(): Gson {
+internal fun buildGson(): Gson {
     return GsonBuilder()
         .registerTypeAdapter(OffsetDateTime::class.java, OffsetDateTimeAdapter())
         .create()
 }
 
-private fun buildClient(properties: Properties): OkHttpClient {
+private fun buildClient(
+    properties: Properties,
+    latencies: ServerTimingListener?,
+    limiter: RateLimiter?
+): OkHttpClient {
     val interceptor: Interceptor = HttpLoggingInterceptor()
         .setLevel(
             HttpLoggingInterceptor.Level.valueOf(
                 properties.getProperty(LOG_LEVEL_KEY).uppercase()
             )
         )
+    val dispatcher = Dispatcher().apply {
+        maxRequests = properties.getProperty(MAX_REQUESTS_KEY).toInt()
+        maxRequestsPerHost = properties.getProperty(MAX_REQUESTS_PER_HOST_KEY).toInt()
+    }
+    val connectionPool = ConnectionPool(
+        properties.getProperty(MAX_IDLE_CONNECTIONS_KEY).toInt(),
+        properties.getProperty(KEEP_ALIVE_SECONDS_KEY).toLong(),
+        TimeUnit.SECONDS
+    )
     return OkHttpClient.Builder()
+        .dispatcher(dispatcher)
+        .connectionPool(connectionPool)
+        .apply {
+            if (properties.getProperty(H2_PRIOR_KNOWLEDGE_KEY).toBoolean()) {
+                protocols(listOf(Protocol.H2_PRIOR_KNOWLEDGE))
+            }
+        }
+        .cache(buildCache(properties))
+        .apply {
+            latencies?.let(::eventListenerFactory)
+        }
+        .apply {
+            properties.getProperty(MAX_RESPONSE_BYTES_KEY)
+                .toLong()
+                .takeIf { it > 0 }
+                ?.let { addInterceptor(ResponseSizeLimitInterceptor(it)) }
+        }
+        .apply {
+            limiter?.let { addInterceptor(RateLimitInterceptor(it)) }
+        }
+        .apply {
+            properties.getProperty(FAULT_PROFILE_KEY)
+                .takeIf { it.isNotBlank() }
+                ?.let { location ->
+                    addInterceptor(
+                        FaultInjectionInterceptor(
+                            properties.getProperty(BASE_URL_KEY).toHttpUrl(),
+                            FaultProfile.load(location, CODES_TO_EXCEPTIONS.keys)
+                        )
+                    )
+                }
+        }
+        .apply {
+            buildFixtureInterceptor(properties)?.let(::addInterceptor)
+        }
         .addInterceptor(interceptor)
         .build()
 }
 
-private fun buildApi(properties: Properties, gson: Gson, client: OkHttpClient): CodebreakerApi {
-    return Retrofit.Builder()
-        .baseUrl(properties.getProperty(BASE_URL_KEY))
-        .addConverterFactory(GsonConverterFactory.create(gson))
-        .client(client)
+private fun buildFixtureInterceptor(properties: Properties): Interceptor? {
+    val baseUrl = properties.getProperty(BASE_URL_KEY).toHttpUrl()
+    return properties.getProperty(FIXTURE_MODE_KEY)
+        .takeIf { it.isNotBlank() }
+        ?.let { mode ->
+            val file = File(properties.getProperty(FIXTURE_FILE_KEY))
+            when (FixtureMode.valueOf(mode.uppercase())) {
+                FixtureMode.RECORD -> FixtureRecorder(baseUrl, file)
+                FixtureMode.REPLAY -> FixtureReplayer(
+                    baseUrl,
+                    file,
+                    FixtureTiming.valueOf(properties.getProperty(FIXTURE_TIMING_KEY).uppercase())
+                )
+            }
+        }
+}
+
+/**
+ * Builds the HTTP disk cache, if both `cacheDirectory` and a positive `cacheMaxSize` are specified.
+ * The cache journal cannot be shared safely by concurrent processes, so there is no default
+ * directory: each application that enables the cache must give it a directory of its own.
+ */
+private fun buildCache(properties: Properties): Cache? {
+    val maxSize = properties.getProperty(CACHE_MAX_SIZE_KEY).toLong()
+    val directory = properties.getProperty(CACHE_DIRECTORY_KEY)
+    return if (maxSize > 0 && directory.isNotBlank()) Cache(File(directory), maxSize) else null
+}
+
+private fun buildLaneClient(
+    properties: Properties,
+    client: OkHttpClient,
+    priority: RequestPriority
+): OkHttpClient {
+    return when (priority) {
+        RequestPriority.INTERACTIVE -> client
+        RequestPriority.BACKGROUND -> {
+            val dispatcher = Dispatcher(buildBackgroundExecutor()).apply {
+                maxRequests = properties.getProperty(MAX_REQUESTS_KEY).toInt()
+                maxRequestsPerHost =
+                    properties.getProperty(BACKGROUND_MAX_REQUESTS_PER_HOST_KEY).toInt()
+            }
+            client.newBuilder()
+                .dispatcher(dispatcher)
+                .build()
+        }
+    }
+}
+
+private fun buildBackgroundExecutor(): ExecutorService {
+    val threadCount = AtomicInteger()
+    return ThreadPoolExecutor(
+        0, Int.MAX_VALUE,
+        BACKGROUND_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        SynchronousQueue(),
+        ThreadFactory { runnable ->
+            Thread(runnable, BACKGROUND_THREAD_NAME_PREFIX + threadCount.incrementAndGet()).apply {
+                isDaemon = true
+                priority = Thread.MIN_PRIORITY
+            }
+        }
+    )
+}
+
+/**
+ * Opens a connection to [baseUrl] in the connection pool of [client], with a `HEAD` request that
+ * bypasses the interceptors, event listener, and cache of [client], so that it is not subject to
+ * rate limiting, fault injection, or fixture recording, and is not counted in latency statistics.
+ */
+private fun openConnection(client: OkHttpClient, baseUrl: String): CompletableFuture<Duration> {
+    val future = CompletableFuture<Duration>()
+    val start = System.nanoTime()
+    val request = Request.Builder()
+        .url(baseUrl)
+        .head()
         .build()
-        .create<CodebreakerApi>(CodebreakerApi::class.java)
+    val bareClient = client.newBuilder()
+        .apply {
+            interceptors().clear()
+            networkInterceptors().clear()
+        }
+        .eventListener(EventListener.NONE)
+        .cache(null)
+        .build()
+    bareClient.newCall(request).enqueue(object : okhttp3.Callback {
+        override fun onResponse(call: okhttp3.Call, response: okhttp3.Response) {
+            response.close()
+            future.complete(Duration.ofNanos(System.nanoTime() - start))
+        }
+
+        override fun onFailure(call: okhttp3.Call, e: IOException) {
+            future.completeExceptionally(e)
+        }
+    })
+    return future
+}
+
+internal fun buildApi(properties: Properties, gson: Gson, client: OkHttpClient): CodebreakerApi {
+    val transport = properties.getProperty(TRANSPORT_KEY, Transport.RETROFIT.name)
+    return when (Transport.valueOf(transport.uppercase())) {
+        Transport.RETROFIT ->
+            Retrofit.Builder()
+                .baseUrl(properties.getProperty(BASE_URL_KEY))
+                .addConverterFactory(GsonConverterFactory.create(gson))
+                .client(client)
+                .build()
+                .create<CodebreakerApi>(CodebreakerApi::class.java)
+        Transport.DIRECT ->
+            DirectCodebreakerApi(properties.getProperty(BASE_URL_KEY).toHttpUrl(), gson, client)
+    }
 }
 
-private fun isValidGame(game: Game): Boolean {
+internal fun isValidGame(game: Game): Boolean {
     val codeLength = game.length
     val pool = game.pool
     val poolLength = pool.length
@@ -221,7 +1090,15 @@ private fun isValidGame(game: Game): Boolean {
         }
 }
 
-private fun isValidGuess(game: Game, guess: Guess): Boolean {
+/**
+ * Returns the entity tag of the game version given by [version]: the quoted number of guesses in
+ * its history.
+ */
+internal fun entityTag(version: Int): String {
+    return "\"$version\""
+}
+
+internal fun isValidGuess(game: Game, guess: Guess): Boolean {
     var valid = true
     if (guess.text.length != game.length) {
         valid = false
@@ -0,0 +1,294 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import com.google.gson.Gson
+import com.google.gson.JsonIOException
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonToken
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.GamePage
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+import edu.cnm.deepdive.codebreaker.api.service.CodebreakerApi
+import okhttp3.HttpUrl
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.RequestBody
+import okhttp3.RequestBody.Companion.toRequestBody
+import okhttp3.ResponseBody
+import okhttp3.ResponseBody.Companion.asResponseBody
+import okio.Buffer
+import okio.Timeout
+import retrofit2.Call
+import retrofit2.Callback
+import retrofit2.Response
+import java.io.IOException
+import java.time.OffsetDateTime
+
+/**
+ * Implementations of [CodebreakerApi] from which the client may be configured (with the `transport`
+ * property) to choose.
+ */
+internal enum class Transport {
+
+    /** Retrofit-generated dynamic proxy, driven by the annotations of [CodebreakerApi]. */
+    RETROFIT,
+
+    /** [DirectCodebreakerApi], which builds OkHttp requests directly. */
+    DIRECT
+
+}
+
+/**
+ * Hand-written implementation of [CodebreakerApi] that builds OkHttp requests directly, instead of
+ * through a Retrofit dynamic proxy. This avoids parsing the annotations of each method on its first
+ * invocation, and the reflective dispatch of every invocation. The returned [Call]s behave like
+ * Retrofit's own: unsuccessful responses are returned (not thrown) with their error bodies, and
+ * empty (`204`) responses have `null` bodies.
+ */
+internal class DirectCodebreakerApi(
+    private val baseUrl: HttpUrl,
+    private val gson: Gson,
+    private val client: OkHttpClient
+) : CodebreakerApi {
+
+    private val gameAdapter: TypeAdapter<Game> = gson.getAdapter(Game::class.java)
+    private val gamePageAdapter: TypeAdapter<GamePage> = gson.getAdapter(GamePage::class.java)
+    private val gameStatusAdapter: TypeAdapter<GameStatus> =
+        gson.getAdapter(GameStatus::class.java)
+    private val guessAdapter: TypeAdapter<Guess> = gson.getAdapter(Guess::class.java)
+
+    override fun getGames(
+        ids: String?,
+        solved: Boolean?,
+        pool: String?,
+        length: Int?,
+        startedAfter: OffsetDateTime?,
+        startedBefore: OffsetDateTime?,
+        cursor: String?,
+        limit: Int?
+    ): Call<GamePage> {
+        val url = gamesUrl()
+            .addQuery(IDS_PARAMETER, ids)
+            .addQuery(SOLVED_PARAMETER, solved)
+            .addQuery(POOL_PARAMETER, pool)
+            .addQuery(LENGTH_PARAMETER, length)
+            .addQuery(STARTED_AFTER_PARAMETER, startedAfter)
+            .addQuery(STARTED_BEFORE_PARAMETER, startedBefore)
+            .addQuery(CURSOR_PARAMETER, cursor)
+            .addQuery(LIMIT_PARAMETER, limit)
+            .build()
+        return newCall(Request.Builder().url(url).get().build(), gamePageAdapter)
+    }
+
+    override fun deleteGames(ids: String?, solved: Boolean?): Call<Void> {
+        val url = gamesUrl()
+            .addQuery(IDS_PARAMETER, ids)
+            .addQuery(SOLVED_PARAMETER, solved)
+            .build()
+        return newCall(Request.Builder().url(url).delete().build(), null)
+    }
+
+    override fun startGame(game: Game): Call<Game> {
+        val request = Request.Builder()
+            .url(gamesUrl().build())
+            .post(toJson(game, gameAdapter))
+            .build()
+        return newCall(request, gameAdapter)
+    }
+
+    override fun getGame(gameId: String): Call<Game> {
+        val url = gamesUrl()
+            .addPathSegment(gameId)
+            .build()
+        return newCall(Request.Builder().url(url).get().build(), gameAdapter)
+    }
+
+    override fun deleteGame(gameId: String): Call<Void> {
+        val url = gamesUrl()
+            .addPathSegment(gameId)
+            .build()
+        return newCall(Request.Builder().url(url).delete().build(), null)
+    }
+
+    override fun getGameStatus(gameId: String): Call<GameStatus> {
+        val url = gamesUrl()
+            .addPathSegment(gameId)
+            .addPathSegment(STATUS_SEGMENT)
+            .build()
+        return newCall(Request.Builder().url(url).get().build(), gameStatusAdapter)
+    }
+
+    override fun submitGuess(gameId: String, guess: Guess, ifMatch: String?): Call<Guess> {
+        val url = gamesUrl()
+            .addPathSegment(gameId)
+            .addPathSegment(GUESSES_SEGMENT)
+            .build()
+        val request = Request.Builder()
+            .url(url)
+            .post(toJson(guess, guessAdapter))
+            .apply { ifMatch?.let { header(IF_MATCH_HEADER, it) } }
+            .build()
+        return newCall(request, guessAdapter)
+    }
+
+    override fun getGuess(gameId: String, guessId: String): Call<Guess> {
+        val url = gamesUrl()
+            .addPathSegment(gameId)
+            .addPathSegment(GUESSES_SEGMENT)
+            .addPathSegment(guessId)
+            .build()
+        return newCall(Request.Builder().url(url).get().build(), guessAdapter)
+    }
+
+    private fun gamesUrl(): HttpUrl.Builder {
+        return baseUrl.newBuilder().addPathSegment(GAMES_SEGMENT)
+    }
+
+    private fun <T> toJson(value: T, adapter: TypeAdapter<T>): RequestBody {
+        val buffer = Buffer()
+        gson.newJsonWriter(buffer.outputStream().writer(Charsets.UTF_8)).use { writer ->
+            adapter.write(writer, value)
+        }
+        return buffer
+            .readByteString()
+            .toRequestBody(JSON_MEDIA_TYPE)
+    }
+
+    private fun <T> newCall(request: Request, adapter: TypeAdapter<T>?): Call<T> {
+        return DirectCall(client.newCall(request), adapter)
+    }
+
+    /**
+     * Adapts an OkHttp [okhttp3.Call] to a Retrofit [Call], converting successful response bodies
+     * with [adapter] (or discarding them, if [adapter] is `null`).
+     */
+    private inner class DirectCall<T>(
+        private val call: okhttp3.Call,
+        private val adapter: TypeAdapter<T>?
+    ) : Call<T> {
+
+        @Throws(IOException::class)
+        override fun execute(): Response<T> {
+            return parse(call.execute())
+        }
+
+        override fun enqueue(callback: Callback<T>) {
+            call.enqueue(object : okhttp3.Callback {
+                override fun onResponse(call: okhttp3.Call, response: okhttp3.Response) {
+                    val parsed = try {
+                        parse(response)
+                    } catch (e: Throwable) {
+                        callback.onFailure(this@DirectCall, e)
+                        return
+                    }
+                    callback.onResponse(this@DirectCall, parsed)
+                }
+
+                override fun onFailure(call: okhttp3.Call, e: IOException) {
+                    callback.onFailure(this@DirectCall, e)
+                }
+            })
+        }
+
+        override fun isExecuted(): Boolean = call.isExecuted()
+
+        override fun cancel() {
+            call.cancel()
+        }
+
+        override fun isCanceled(): Boolean = call.isCanceled()
+
+        override fun clone(): Call<T> = DirectCall(call.clone(), adapter)
+
+        override fun request(): Request = call.request()
+
+        override fun timeout(): Timeout = call.timeout()
+
+        private fun parse(rawResponse: okhttp3.Response): Response<T> {
+            val body = rawResponse.body!!
+            val strippedResponse = rawResponse.newBuilder()
+                .body(NoContentResponseBody(body))
+                .build()
+            return body.use {
+                when {
+                    !rawResponse.isSuccessful -> {
+                        val buffered = Buffer()
+                            .also { buffer -> body.source().readAll(buffer) }
+                            .asResponseBody(body.contentType(), body.contentLength())
+                        Response.error(buffered, strippedResponse)
+                    }
+                    adapter == null || rawResponse.code == NO_CONTENT
+                            || rawResponse.code == RESET_CONTENT -> {
+                        @Suppress("UNCHECKED_CAST")
+                        Response.success(null as T, strippedResponse)
+                    }
+                    else ->
+                        Response.success(convert(body, adapter), strippedResponse)
+                }
+            }
+        }
+
+        private fun convert(body: ResponseBody, adapter: TypeAdapter<T>): T {
+            val reader = gson.newJsonReader(body.charStream())
+            val value = adapter.read(reader)
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw JsonIOException("JSON document was not fully consumed.")
+            }
+            return value
+        }
+
+    }
+
+    /**
+     * Stands in for a response body that has already been consumed, as in Retrofit's raw responses.
+     */
+    private class NoContentResponseBody(private val body: ResponseBody) : ResponseBody() {
+
+        override fun contentType() = body.contentType()
+
+        override fun contentLength() = body.contentLength()
+
+        override fun source() =
+            throw IllegalStateException("Cannot read raw response body of a converted body.")
+
+    }
+
+    private companion object {
+        const val GAMES_SEGMENT = "games"
+        const val STATUS_SEGMENT = "status"
+        const val GUESSES_SEGMENT = "guesses"
+        const val IF_MATCH_HEADER = "If-Match"
+        const val IDS_PARAMETER = "ids"
+        const val SOLVED_PARAMETER = "solved"
+        const val POOL_PARAMETER = "pool"
+        const val LENGTH_PARAMETER = "length"
+        const val STARTED_AFTER_PARAMETER = "startedAfter"
+        const val STARTED_BEFORE_PARAMETER = "startedBefore"
+        const val CURSOR_PARAMETER = "cursor"
+        const val LIMIT_PARAMETER = "limit"
+        const val NO_CONTENT = 204
+        const val RESET_CONTENT = 205
+        val JSON_MEDIA_TYPE = "application/json".toMediaType()
+
+        fun HttpUrl.Builder.addQuery(name: String, value: Any?): HttpUrl.Builder {
+            return if (value != null) addQueryParameter(name, value.toString()) else this
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.HttpUrl
+import okhttp3.Interceptor
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.Protocol
+import okhttp3.Request
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.asResponseBody
+import okhttp3.ResponseBody.Companion.toResponseBody
+import okio.Buffer
+import okio.ForwardingSource
+import okio.Source
+import okio.buffer
+import java.io.File
+import java.io.IOException
+import java.io.InputStream
+import java.io.InterruptedIOException
+import java.net.SocketException
+import java.util.Properties
+import java.util.Random
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+import kotlin.math.exp
+import kotlin.math.max
+import kotlin.math.min
+import kotlin.math.roundToLong
+
+/**
+ * Injects latency, error responses, connection resets, and slow response bodies into requests, as
+ * specified by a [FaultProfile]. This is intended only for local performance testing: it allows
+ * production tail-latency and failure conditions to be reproduced without a network, and to be
+ * reproduced again on a later run.
+ *
+ * The random choices for each request are drawn from a generator of its own, seeded from
+ * [FaultProfile.seed], the operation (HTTP method and path template, e.g.
+ * `POST games/{id}/guesses`), and the number of requests for the same operation made before it.
+ * The faults injected into the n-th request of an operation therefore do not depend on how
+ * requests for other operations are interleaved with it, or on the threads that run them. They do
+ * depend on the order in which concurrent requests for the *same* operation reach this
+ * interceptor, so a run is exactly reproducible only if those requests are made one at a time.
+ *
+ * Injected error responses use status codes that the client maps to exceptions, so they surface
+ * to callers exactly as the corresponding service errors would.
+ */
+internal class FaultInjectionInterceptor(
+    private val baseUrl: HttpUrl,
+    private val profile: FaultProfile
+) : Interceptor {
+
+    private val counters = ConcurrentHashMap<String, AtomicLong>()
+
+    @Throws(IOException::class)
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val request = chain.request()
+        val random = randomFor(request)
+        pause(sampleLatency(random))
+        val roll = random.nextDouble()
+        return when {
+            roll < profile.resetRate ->
+                throw SocketException(INJECTED_RESET_MESSAGE)
+            roll < profile.resetRate + profile.errorRate -> {
+                val codes = profile.errorCodes
+                buildErrorResponse(request, codes[random.nextInt(codes.size)])
+            }
+            else -> {
+                val response = chain.proceed(request)
+                if (random.nextDouble() < profile.slowBodyRate) throttle(response) else response
+            }
+        }
+    }
+
+    private fun randomFor(request: Request): Random {
+        val operation = operationOf(baseUrl, request)
+        val index = counters.computeIfAbsent(operation) { AtomicLong() }.getAndIncrement()
+        return Random(mix(mix(profile.seed) xor operation.hashCode().toLong() xor mix(index)))
+    }
+
+    private fun sampleLatency(random: Random): Long {
+        val gaussian = random.nextGaussian()
+        var latency = profile.latencyMedianMillis * exp(profile.latencySigma * gaussian)
+        if (random.nextDouble() < profile.latencyTailRate) {
+            latency += profile.latencyTailMillis
+        }
+        return latency.roundToLong()
+    }
+
+    private fun buildErrorResponse(request: Request, code: Int): Response {
+        return Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message(INJECTED_ERROR_MESSAGE)
+            .body(
+                "{\"status\":$code,\"error\":\"$INJECTED_ERROR_MESSAGE\"}"
+                    .toResponseBody(JSON_MEDIA_TYPE.toMediaType())
+            )
+            .build()
+    }
+
+    private fun throttle(response: Response): Response {
+        val body = response.body ?: return response
+        val throttled = ThrottledSource(body.source(), profile.slowBodyBytesPerSecond)
+        return response.newBuilder()
+            .body(throttled.buffer().asResponseBody(body.contentType(), body.contentLength()))
+            .build()
+    }
+
+    /**
+     * Limits the rate at which bytes can be read from [delegate] to approximately [bytesPerSecond].
+     */
+    private class ThrottledSource(
+        delegate: Source,
+        private val bytesPerSecond: Long
+    ) : ForwardingSource(delegate) {
+
+        override fun read(sink: Buffer, byteCount: Long): Long {
+            val read = super.read(sink, min(byteCount, max(1L, bytesPerSecond / READS_PER_SECOND)))
+            if (read > 0) {
+                pause(read * MILLIS_PER_SECOND / bytesPerSecond)
+            }
+            return read
+        }
+
+    }
+
+    private companion object {
+
+        const val INJECTED_RESET_MESSAGE = "Connection reset (injected)"
+        const val INJECTED_ERROR_MESSAGE = "Injected fault"
+        const val JSON_MEDIA_TYPE = "application/json"
+        const val READS_PER_SECOND = 10L
+        const val MILLIS_PER_SECOND = 1000L
+        const val MIX_MULTIPLIER_1 = -0x40a7b892e31b1a47L
+        const val MIX_MULTIPLIER_2 = -0x6b2fb644ecceee15L
+        const val GOLDEN_GAMMA = -0x61c8864680b583ebL
+
+        /**
+         * Scrambles [value] (offset by the golden-ratio increment), so that seeds derived from
+         * consecutive counts or similar hash codes are uncorrelated.
+         */
+        fun mix(value: Long): Long {
+            var z = value + GOLDEN_GAMMA
+            z = (z xor (z ushr 30)) * MIX_MULTIPLIER_1
+            z = (z xor (z ushr 27)) * MIX_MULTIPLIER_2
+            return z xor (z ushr 31)
+        }
+
+        @Throws(InterruptedIOException::class)
+        fun pause(millis: Long) {
+            if (millis > 0) {
+                try {
+                    Thread.sleep(millis)
+                } catch (e: InterruptedException) {
+                    Thread.currentThread().interrupt()
+                    throw InterruptedIOException().apply { initCause(e) }
+                }
+            }
+        }
+
+    }
+
+}
+
+/**
+ * Specifies the faults injected by a [FaultInjectionInterceptor]. Rates are probabilities (from 0
+ * to 1) applied independently to each request; [resetRate] and [errorRate] are mutually exclusive,
+ * so their sum must not exceed 1.
+ *
+ * @property seed Seed from which the random number generator of each request is derived.
+ * @property latencyMedianMillis Median of the log-normally distributed latency added to each
+ * request.
+ * @property latencySigma Shape parameter of the latency distribution; larger values give a longer
+ * tail. 0 adds exactly [latencyMedianMillis] to every request.
+ * @property latencyTailRate Probability of adding a further [latencyTailMillis] to a request.
+ * @property latencyTailMillis Latency added to the requests selected by [latencyTailRate].
+ * @property errorRate Probability of answering a request with an error response instead of
+ * forwarding it.
+ * @property errorCodes Status codes of injected error responses, chosen uniformly.
+ * @property resetRate Probability of failing a request with a connection reset instead of
+ * forwarding it.
+ * @property slowBodyRate Probability of throttling the body of a forwarded response.
+ * @property slowBodyBytesPerSecond Read rate of throttled response bodies.
+ */
+internal data class FaultProfile(
+    val seed: Long,
+    val latencyMedianMillis: Double,
+    val latencySigma: Double,
+    val latencyTailRate: Double,
+    val latencyTailMillis: Long,
+    val errorRate: Double,
+    val errorCodes: List<Int>,
+    val resetRate: Double,
+    val slowBodyRate: Double,
+    val slowBodyBytesPerSecond: Long
+) {
+
+    companion object {
+
+        private const val SEED_KEY = "seed"
+        private const val LATENCY_MEDIAN_MILLIS_KEY = "latencyMedianMillis"
+        private const val LATENCY_SIGMA_KEY = "latencySigma"
+        private const val LATENCY_TAIL_RATE_KEY = "latencyTailRate"
+        private const val LATENCY_TAIL_MILLIS_KEY = "latencyTailMillis"
+        private const val ERROR_RATE_KEY = "errorRate"
+        private const val ERROR_CODES_KEY = "errorCodes"
+        private const val RESET_RATE_KEY = "resetRate"
+        private const val SLOW_BODY_RATE_KEY = "slowBodyRate"
+        private const val SLOW_BODY_BYTES_PER_SECOND_KEY = "slowBodyBytesPerSecond"
+        private const val CODE_SEPARATOR = ","
+
+        /**
+         * Loads a profile from the properties file at [location], which is resolved first as a file
+         * path and then as a classpath resource. Only codes in [supportedCodes] may be listed in
+         * `errorCodes`. Properties not specified in the file take neutral values (no latency, no
+         * faults).
+         */
+        fun load(location: String, supportedCodes: Set<Int>): FaultProfile {
+            val properties = Properties()
+            openProfile(location).use { input -> properties.load(input) }
+            val errorCodes = properties.getProperty(ERROR_CODES_KEY, "")
+                .split(CODE_SEPARATOR)
+                .filter { it.isNotBlank() }
+                .map { it.trim().toInt() }
+            require(supportedCodes.containsAll(errorCodes)) {
+                "errorCodes must be a subset of $supportedCodes"
+            }
+            val profile = FaultProfile(
+                properties.getProperty(SEED_KEY, "0").toLong(),
+                properties.getProperty(LATENCY_MEDIAN_MILLIS_KEY, "0").toDouble(),
+                properties.getProperty(LATENCY_SIGMA_KEY, "0").toDouble(),
+                properties.getProperty(LATENCY_TAIL_RATE_KEY, "0").toDouble(),
+                properties.getProperty(LATENCY_TAIL_MILLIS_KEY, "0").toLong(),
+                properties.getProperty(ERROR_RATE_KEY, "0").toDouble(),
+                errorCodes,
+                properties.getProperty(RESET_RATE_KEY, "0").toDouble(),
+                properties.getProperty(SLOW_BODY_RATE_KEY, "0").toDouble(),
+                properties.getProperty(SLOW_BODY_BYTES_PER_SECOND_KEY, "1024").toLong()
+            )
+            require(profile.errorRate == 0.0 || errorCodes.isNotEmpty()) {
+                "errorCodes must be specified when errorRate is non-zero"
+            }
+            require(profile.errorRate + profile.resetRate <= 1.0) {
+                "errorRate + resetRate must not exceed 1"
+            }
+            return profile
+        }
+
+        private fun openProfile(location: String): InputStream {
+            val file = File(location)
+            return if (file.isFile)
+                file.inputStream()
+            else
+                FaultProfile::class.java.classLoader.getResourceAsStream(location)
+                    ?: throw IOException("Fault profile not found: $location")
+        }
+
+    }
+
+}
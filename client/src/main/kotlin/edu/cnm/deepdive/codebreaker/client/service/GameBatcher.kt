@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Merges individual game retrievals made within a short window into a single multi-game fetch.
+ * The first request in a batch starts the window; the batch is sent when the window closes, or as
+ * soon as it holds [maxSize] distinct game IDs, whichever comes first. Requests for the same game
+ * within a batch share a single result.
+ */
+internal class GameBatcher(
+    private val window: Duration,
+    private val maxSize: Int,
+    private val scheduler: ScheduledExecutorService,
+    private val fetch: (Collection<String>) -> CompletableFuture<List<Game>>
+) {
+
+    private val lock = Any()
+    private var pending: MutableMap<String, CompletableFuture<Game>> = LinkedHashMap()
+    private var deadline: ScheduledFuture<*>? = null
+
+    fun getGame(gameId: String): CompletableFuture<Game> {
+        val (future, batch) = synchronized(lock) {
+            val future = pending.getOrPut(gameId) { CompletableFuture() }
+            if (pending.size == 1) {
+                deadline = scheduler.schedule(
+                    Runnable { flush() }, window.toNanos(), TimeUnit.NANOSECONDS
+                )
+            }
+            future to if (pending.size >= maxSize) drain() else null
+        }
+        batch?.let(::send)
+        return future
+    }
+
+    /**
+     * Sends the pending batch (if any) immediately, without waiting for its window to close.
+     */
+    fun flush() {
+        val batch = synchronized(lock) { drain() }
+        if (batch.isNotEmpty()) {
+            send(batch)
+        }
+    }
+
+    private fun drain(): Map<String, CompletableFuture<Game>> {
+        deadline?.cancel(false)
+        deadline = null
+        val batch = pending
+        pending = LinkedHashMap()
+        return batch
+    }
+
+    private fun send(batch: Map<String, CompletableFuture<Game>>) {
+        fetch(batch.keys).whenComplete { games, throwable ->
+            if (throwable != null) {
+                val cause = (throwable as? CompletionException)?.cause ?: throwable
+                batch.values.forEach { it.completeExceptionally(cause) }
+            } else {
+                val gamesById = games.associateBy { it.id }
+                batch.forEach { (gameId, future) ->
+                    gamesById[gameId]
+                        ?.let(future::complete)
+                        ?: future.completeExceptionally(ResourceNotFoundException())
+                }
+            }
+        }
+    }
+
+}
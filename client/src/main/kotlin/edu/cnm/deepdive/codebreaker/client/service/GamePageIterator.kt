@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.GamePage
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+
+/**
+ * Iterates over the games in a paged listing, requesting pages only as they are needed. The first
+ * page is requested on construction; each time iteration moves on to a page, the page after it is
+ * requested immediately, so that it is usually available by the time the current page has been
+ * consumed. [hasNext] and [next] block only when they reach a page that has not yet arrived.
+ *
+ * If a page request fails, the cause is thrown from [hasNext] (or [next]), and iteration ends.
+ */
+internal class GamePageIterator(
+    private val fetch: (cursor: String?) -> CompletableFuture<GamePage>
+) : Iterator<Game> {
+
+    private var page: CompletableFuture<GamePage> = fetch(null)
+    private var games: Iterator<Game> = emptyList<Game>().iterator()
+    private var exhausted = false
+
+    override fun hasNext(): Boolean {
+        while (!games.hasNext() && !exhausted) {
+            val current = await(page)
+            games = current.games.iterator()
+            val nextCursor = current.nextCursor
+            if (nextCursor != null) {
+                page = fetch(nextCursor)
+            } else {
+                exhausted = true
+            }
+        }
+        return games.hasNext()
+    }
+
+    override fun next(): Game {
+        if (!hasNext()) {
+            throw NoSuchElementException()
+        }
+        return games.next()
+    }
+
+    private fun await(page: CompletableFuture<GamePage>): GamePage {
+        try {
+            return page.join()
+        } catch (e: CompletionException) {
+            exhausted = true
+            throw e.cause ?: e
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import java.time.OffsetDateTime
+
+/**
+ * Filters and page size for [CodebreakerService.listGames]. Each filter is ignored when `null`.
+ * Like the generated model classes, this class provides fluent setters, so that a query can be
+ * built in a single expression; for example,
+ * `new GameQuery().solved(false).length(4)`.
+ */
+class GameQuery {
+
+    /** If not `null`, include only solved (`true`) or unsolved (`false`) games. */
+    var solved: Boolean? = null
+
+    /** If not `null`, include only games with exactly this character pool. */
+    var pool: String? = null
+
+    /** If not `null`, include only games with this code length. */
+    var length: Int? = null
+
+    /** If not `null`, include only games started at or after this instant. */
+    var startedAfter: OffsetDateTime? = null
+
+    /** If not `null`, include only games started before this instant. */
+    var startedBefore: OffsetDateTime? = null
+
+    /** Number of games requested in each page; `null` uses the service default. */
+    var pageSize: Int? = null
+
+    fun solved(solved: Boolean?): GameQuery = apply { this.solved = solved }
+
+    fun pool(pool: String?): GameQuery = apply { this.pool = pool }
+
+    fun length(length: Int?): GameQuery = apply { this.length = length }
+
+    fun startedAfter(startedAfter: OffsetDateTime?): GameQuery =
+        apply { this.startedAfter = startedAfter }
+
+    fun startedBefore(startedBefore: OffsetDateTime?): GameQuery =
+        apply { this.startedBefore = startedBefore }
+
+    fun pageSize(pageSize: Int?): GameQuery = apply { this.pageSize = pageSize }
+
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+
+/**
+ * Remembers the scored guesses of recently played games, keyed by guess text. Since a guess's
+ * score depends only on its text and the game's (fixed) secret code, a guess resubmitted for the
+ * same game can be answered with the previously scored [Guess], without a round trip.
+ *
+ * The memo for a game holds each guess recorded with [record], and is extended from
+ * [Game.getGuesses] on demand: a lookup that misses examines the guesses not yet indexed, in order,
+ * only until it finds a match. Memos are kept for at most [maxGames] games, evicting the least
+ * recently used.
+ */
+internal class GuessMemo(private val maxGames: Int) {
+
+    private val memos = object : LinkedHashMap<String, Memo>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, Memo>): Boolean {
+            return size > maxGames
+        }
+    }
+
+    /**
+     * Returns the previously scored guess with the same text as [guess] in [game], or `null` if
+     * there is none. Guesses for solved games are never answered from the memo, so that the
+     * service can reject them.
+     */
+    fun lookup(game: Game, guess: Guess): Guess? {
+        if (game.solved == true) {
+            return null
+        }
+        return synchronized(memos) {
+            memos
+                .getOrPut(game.id) { Memo() }
+                .find(game.guesses.orEmpty(), guess.text)
+        }
+    }
+
+    /**
+     * Records [guess] (as scored by the service) for [game].
+     */
+    fun record(game: Game, guess: Guess) {
+        synchronized(memos) {
+            memos
+                .getOrPut(game.id) { Memo() }
+                .byText
+                .putIfAbsent(guess.text, guess)
+        }
+    }
+
+    private class Memo {
+
+        val byText: MutableMap<String, Guess> = HashMap()
+        private var indexed = 0
+
+        /**
+         * Returns the guess with [text], indexing the elements of [guesses] that have not already
+         * been indexed until one with that text is found. Guesses are only ever appended to a
+         * game's history, so indexing resumes after the last element examined.
+         */
+        fun find(guesses: List<Guess>, text: String): Guess? {
+            byText[text]?.let { return it }
+            if (guesses.size < indexed) {
+                indexed = 0
+            }
+            while (indexed < guesses.size) {
+                val guess = guesses[indexed++]
+                byText.putIfAbsent(guess.text, guess)
+                if (guess.text == text) {
+                    return byText[text]
+                }
+            }
+            return null
+        }
+
+    }
+
+    private companion object {
+        const val INITIAL_CAPACITY = 16
+        const val LOAD_FACTOR = 0.75f
+    }
+
+}
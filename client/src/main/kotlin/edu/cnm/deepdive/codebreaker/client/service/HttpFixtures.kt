@@ -0,0 +1,322 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import com.google.gson.JsonArray
+import com.google.gson.JsonObject
+import com.google.gson.JsonParser
+import okhttp3.Headers
+import okhttp3.HttpUrl
+import okhttp3.Interceptor
+import okhttp3.MediaType.Companion.toMediaTypeOrNull
+import okhttp3.Protocol
+import okhttp3.Request
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.toResponseBody
+import okio.Buffer
+import java.io.BufferedReader
+import java.io.Closeable
+import java.io.File
+import java.io.IOException
+import java.io.InterruptedIOException
+import java.io.Writer
+import java.util.LinkedList
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * Modes of operation for the HTTP fixture interceptors, selected by the `fixtureMode` property.
+ */
+internal enum class FixtureMode {
+
+    /** Exchanges with the service are passed through unchanged and appended to the fixture log. */
+    RECORD,
+
+    /** Requests are answered from the fixture log; the service is never contacted. */
+    REPLAY
+
+}
+
+/**
+ * Selects the pacing of replayed responses, using the `fixtureTiming` property.
+ */
+internal enum class FixtureTiming {
+
+    /** Each response is returned as soon as it is requested. */
+    FAST,
+
+    /** Each response is delayed by the time the service originally took to produce it. */
+    ORIGINAL
+
+}
+
+/**
+ * A single recorded request and response. Requests are identified by method, path (relative to the
+ * base URL), and query string; request bodies are recorded for reference but are not used when
+ * matching. Response headers (e.g. `ETag`, `Cache-Control`, `Retry-After`, and `Server-Timing`)
+ * are recorded and replayed, apart from those describing the framing of the original body.
+ */
+internal data class RecordedExchange(
+    val method: String,
+    val path: String,
+    val query: String?,
+    val requestBody: String?,
+    val code: Int,
+    val message: String,
+    val headers: Headers,
+    val contentType: String?,
+    val body: String,
+    val durationMillis: Long
+) {
+
+    val key: String
+        get() = key(method, path, query)
+
+    fun toJson(): JsonObject {
+        return JsonObject().apply {
+            addProperty(METHOD_KEY, method)
+            addProperty(PATH_KEY, path)
+            query?.let { addProperty(QUERY_KEY, it) }
+            requestBody?.let { addProperty(REQUEST_BODY_KEY, it) }
+            addProperty(CODE_KEY, code)
+            addProperty(MESSAGE_KEY, message)
+            add(HEADERS_KEY, JsonArray().apply {
+                headers.forEach { (name, value) ->
+                    add(JsonArray().apply {
+                        add(name)
+                        add(value)
+                    })
+                }
+            })
+            contentType?.let { addProperty(CONTENT_TYPE_KEY, it) }
+            addProperty(BODY_KEY, body)
+            addProperty(DURATION_MILLIS_KEY, durationMillis)
+        }
+    }
+
+    companion object {
+
+        private const val METHOD_KEY = "method"
+        private const val PATH_KEY = "path"
+        private const val QUERY_KEY = "query"
+        private const val REQUEST_BODY_KEY = "requestBody"
+        private const val CODE_KEY = "code"
+        private const val MESSAGE_KEY = "message"
+        private const val HEADERS_KEY = "headers"
+        private const val CONTENT_TYPE_KEY = "contentType"
+        private const val BODY_KEY = "body"
+        private const val DURATION_MILLIS_KEY = "durationMillis"
+
+        fun fromJson(json: JsonObject): RecordedExchange {
+            return RecordedExchange(
+                json.get(METHOD_KEY).asString,
+                json.get(PATH_KEY).asString,
+                json.get(QUERY_KEY)?.asString,
+                json.get(REQUEST_BODY_KEY)?.asString,
+                json.get(CODE_KEY).asInt,
+                json.get(MESSAGE_KEY).asString,
+                readHeaders(json.getAsJsonArray(HEADERS_KEY)),
+                json.get(CONTENT_TYPE_KEY)?.asString,
+                json.get(BODY_KEY).asString,
+                json.get(DURATION_MILLIS_KEY).asLong
+            )
+        }
+
+        fun key(method: String, path: String, query: String?): String {
+            return if (query != null) "$method $path?$query" else "$method $path"
+        }
+
+        /**
+         * Reads the headers recorded for an exchange; fixture logs written before headers were
+         * recorded have none.
+         */
+        private fun readHeaders(json: JsonArray?): Headers {
+            return Headers.Builder()
+                .apply {
+                    json?.forEach { header ->
+                        val (name, value) = header.asJsonArray.map { it.asString }
+                        addUnsafeNonAscii(name, value)
+                    }
+                }
+                .build()
+        }
+
+    }
+
+}
+
+/**
+ * Records every exchange that passes through it to a fixture log: a text file holding one JSON
+ * object per line, gzip-compressed if the file name ends with `.gz`. Each line is flushed as it is
+ * written, so the log is usable even if the process ends without [close] being invoked. Responses
+ * answered entirely from the disk cache, without a network exchange, are not recorded.
+ */
+internal class FixtureRecorder(
+    private val baseUrl: HttpUrl,
+    file: File
+) : Interceptor, Closeable {
+
+    private val writer: Writer = openFixtureWriter(file)
+
+    @Throws(IOException::class)
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val request = chain.request()
+        val start = System.nanoTime()
+        val response = chain.proceed(request)
+        if (response.networkResponse == null) {
+            return response
+        }
+        val body = response.body
+        val bodyText = body?.string() ?: ""
+        val elapsed = (System.nanoTime() - start) / NANOS_PER_MILLI
+        val contentType = body?.contentType()
+        val exchange = RecordedExchange(
+            request.method,
+            relativePath(baseUrl, request),
+            request.url.encodedQuery,
+            readRequestBody(request),
+            response.code,
+            response.message,
+            response.headers
+                .newBuilder()
+                .apply { FRAMING_HEADERS.forEach { removeAll(it) } }
+                .build(),
+            contentType?.toString(),
+            bodyText,
+            elapsed
+        )
+        append(exchange)
+        return response.newBuilder()
+            .body(bodyText.toResponseBody(contentType))
+            .build()
+    }
+
+    override fun close() {
+        synchronized(writer) {
+            writer.close()
+        }
+    }
+
+    private fun append(exchange: RecordedExchange) {
+        synchronized(writer) {
+            writer.write(exchange.toJson().toString())
+            writer.write(LINE_SEPARATOR)
+            writer.flush()
+        }
+    }
+
+    private fun readRequestBody(request: Request): String? {
+        return request.body?.let { body ->
+            Buffer()
+                .also { body.writeTo(it) }
+                .readUtf8()
+        }
+    }
+
+}
+
+/**
+ * Answers requests from a fixture log written by [FixtureRecorder], without contacting the service.
+ * Recorded exchanges with the same method, path, and query are returned in the order they were
+ * recorded; once they have all been returned, the last of them is returned for every further
+ * matching request. A request with no recorded match fails with an [IOException].
+ *
+ * Replayed responses carry their recorded headers, so the interceptors above this one (e.g. rate
+ * limiting, which reads `Retry-After`) see them as they were recorded. Since they never reach the
+ * network, however, they are neither stored in the disk cache nor included in the latency split
+ * reported by [ServerTimingListener].
+ */
+internal class FixtureReplayer(
+    private val baseUrl: HttpUrl,
+    file: File,
+    private val timing: FixtureTiming
+) : Interceptor {
+
+    private val exchanges: Map<String, LinkedList<RecordedExchange>> = readFixtures(file)
+
+    @Throws(IOException::class)
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val request = chain.request()
+        val key = RecordedExchange.key(
+            request.method, relativePath(baseUrl, request), request.url.encodedQuery
+        )
+        val exchange = exchanges[key]
+            ?.let(::next)
+            ?: throw IOException("No recorded exchange for $key")
+        if (timing == FixtureTiming.ORIGINAL) {
+            pause(exchange.durationMillis)
+        }
+        return Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(exchange.code)
+            .message(exchange.message)
+            .headers(exchange.headers)
+            .body(exchange.body.toResponseBody(exchange.contentType?.toMediaTypeOrNull()))
+            .build()
+    }
+
+    private fun next(queue: LinkedList<RecordedExchange>): RecordedExchange? {
+        return synchronized(queue) {
+            if (queue.size > 1) queue.poll() else queue.peek()
+        }
+    }
+
+    private fun readFixtures(file: File): Map<String, LinkedList<RecordedExchange>> {
+        return openFixtureReader(file).useLines { lines ->
+            lines
+                .filter { it.isNotBlank() }
+                .map { RecordedExchange.fromJson(JsonParser.parseString(it).asJsonObject) }
+                .groupBy(RecordedExchange::key)
+                .mapValues { (_, recorded) -> LinkedList(recorded) }
+        }
+    }
+
+    @Throws(InterruptedIOException::class)
+    private fun pause(millis: Long) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis)
+            } catch (e: InterruptedException) {
+                Thread.currentThread().interrupt()
+                throw InterruptedIOException().apply { initCause(e) }
+            }
+        }
+    }
+
+}
+
+private const val GZIP_EXTENSION = ".gz"
+private const val LINE_SEPARATOR = "\n"
+private const val NANOS_PER_MILLI = 1_000_000L
+private val FRAMING_HEADERS = listOf("Content-Length", "Content-Encoding", "Transfer-Encoding")
+
+private fun relativePath(baseUrl: HttpUrl, request: Request): String {
+    return request.url.encodedPath.removePrefix(baseUrl.encodedPath)
+}
+
+private fun openFixtureWriter(file: File): Writer {
+    file.absoluteFile.parentFile?.mkdirs()
+    val output = file.outputStream()
+    return (if (file.name.endsWith(GZIP_EXTENSION)) GZIPOutputStream(output, true) else output)
+        .bufferedWriter()
+}
+
+private fun openFixtureReader(file: File): BufferedReader {
+    val input = file.inputStream()
+    return (if (file.name.endsWith(GZIP_EXTENSION)) GZIPInputStream(input) else input)
+        .bufferedReader()
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.Interceptor
+import okhttp3.Response
+import java.io.IOException
+import java.util.concurrent.TimeUnit
+
+/**
+ * Reports the outcome of each exchange to [limiter], so that it slows down when the service
+ * answers with `429 Too Many Requests` (for the time given by the `Retry-After` header, in seconds
+ * or as an HTTP date), and speeds up again as other responses arrive. This interceptor never
+ * waits: tokens are acquired from [limiter] before a call is handed to OkHttp.
+ */
+internal class RateLimitInterceptor(private val limiter: RateLimiter) : Interceptor {
+
+    @Throws(IOException::class)
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val request = chain.request()
+        val response = chain.proceed(request)
+        if (response.code == TOO_MANY_REQUESTS) {
+            limiter.throttle(request.url, retryAfterNanos(response))
+        } else {
+            limiter.recover(request.url)
+        }
+        return response
+    }
+
+    private fun retryAfterNanos(response: Response): Long {
+        val header = response.header(RETRY_AFTER_HEADER) ?: return 0L
+        return header.trim().toLongOrNull()
+            ?.let { TimeUnit.SECONDS.toNanos(it) }
+            ?: response.headers.getDate(RETRY_AFTER_HEADER)
+                ?.let { TimeUnit.MILLISECONDS.toNanos(it.time - System.currentTimeMillis()) }
+            ?: 0L
+    }
+
+    private companion object {
+        const val TOO_MANY_REQUESTS = 429
+        const val RETRY_AFTER_HEADER = "Retry-After"
+    }
+
+}
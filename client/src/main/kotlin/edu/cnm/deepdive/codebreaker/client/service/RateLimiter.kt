@@ -0,0 +1,319 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.HttpUrl
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * Shapes outgoing traffic with a token bucket per base URL (scheme, host, and port), so that the
+ * client slows itself down before the service starts rejecting its requests. Tokens are granted
+ * before a request is handed to OkHttp: a request waiting for a token is a pending future, holding
+ * neither a dispatcher slot nor a thread. Waiters are woken on [scheduler] when tokens become
+ * available.
+ *
+ * Waiting [RequestPriority.INTERACTIVE] requests are granted tokens before any waiting
+ * [RequestPriority.BACKGROUND] request, and background requests may not take the last
+ * [interactiveReserve] tokens in the bucket, so that a run of background requests cannot leave a
+ * user waiting for the bucket to refill. Within each lane, waiting requests are queued by game,
+ * and tokens are granted round-robin across games, so that one busy game (for example, a bot
+ * submitting guesses in a tight loop) cannot starve the others; requests that do not refer to a
+ * single game share one queue. A waiter whose future is completed by other means (typically, by
+ * being cancelled) is dropped from its queue without consuming a token.
+ *
+ * When the service answers with `429 Too Many Requests` (as reported by [RateLimitInterceptor]
+ * through [throttle]), the bucket halves its rate (down to a floor of one tenth of
+ * [permitsPerSecond]) and grants no tokens until the time given by the `Retry-After` header has
+ * passed. Each subsequent successful response ([recover]) restores the rate by a fraction of
+ * [permitsPerSecond], until it is back to the configured rate.
+ */
+internal class RateLimiter(
+    private val permitsPerSecond: Double,
+    private val burst: Int,
+    interactiveReserve: Int,
+    private val scheduler: ScheduledExecutorService
+) {
+
+    private val reserve = interactiveReserve.coerceIn(0, max(0, burst - 1))
+    private val buckets = ConcurrentHashMap<String, TokenBucket>()
+
+    @Volatile
+    private var closed = false
+
+    /**
+     * Completes [permit] when a request to [url] in the lane given by [priority] may be sent. The
+     * permit is completed on the calling thread if a token is available immediately, and otherwise
+     * on [scheduler], so dependent actions should only enqueue their requests. If the permit is
+     * cancelled while waiting, it gives up its place in the queue.
+     */
+    fun acquire(priority: RequestPriority, url: HttpUrl, permit: CompletableFuture<Void?>) {
+        when {
+            permit.isDone -> {}
+            closed -> permit.completeExceptionally(RejectedExecutionException(CLOSED_MESSAGE))
+            else -> bucketFor(url).acquire(priority, queueKey(url), permit)
+        }
+    }
+
+    /**
+     * Slows the bucket for [url] after a `429` response, granting no tokens for
+     * [retryAfterNanos].
+     */
+    fun throttle(url: HttpUrl, retryAfterNanos: Long) {
+        bucketFor(url).throttle(retryAfterNanos)
+    }
+
+    /**
+     * Restores part of the rate of the bucket for [url] after a response other than `429`.
+     */
+    fun recover(url: HttpUrl) {
+        bucketFor(url).recover()
+    }
+
+    /**
+     * Fails all waiting permits, and any permit requested later, with a
+     * [RejectedExecutionException]. Requests waiting for a token have not been sent, so on shutdown
+     * they are rejected, like requests made after shutdown.
+     */
+    fun close() {
+        closed = true
+        buckets.values.forEach(TokenBucket::close)
+    }
+
+    private fun bucketFor(url: HttpUrl): TokenBucket {
+        return buckets.computeIfAbsent("${url.scheme}://${url.host}:${url.port}") {
+            TokenBucket()
+        }
+    }
+
+    private fun queueKey(url: HttpUrl): String {
+        val segments = url.pathSegments
+        val gamesIndex = segments.lastIndexOf(GAMES_SEGMENT)
+        return segments
+            .getOrNull(gamesIndex + 1)
+            ?.takeIf { gamesIndex >= 0 && it.isNotEmpty() }
+            ?: SHARED_QUEUE_KEY
+    }
+
+    /**
+     * Token bucket with waiting permits queued by lane, and round-robin by key within each lane.
+     */
+    private inner class TokenBucket {
+
+        private val lock = Any()
+        private val lanes = LANE_ORDER.associateWith {
+            LinkedHashMap<String, ArrayDeque<CompletableFuture<Void?>>>()
+        }
+        private var rate = permitsPerSecond
+        private var tokens = burst.toDouble()
+        private var refilled = System.nanoTime()
+        private var blockedUntil = refilled
+        private var wake: ScheduledFuture<*>? = null
+        private var wakeAt = 0L
+
+        fun acquire(priority: RequestPriority, key: String, permit: CompletableFuture<Void?>) {
+            val granted = synchronized(lock) {
+                if (closed) {
+                    null
+                } else {
+                    lanes.getValue(priority).getOrPut(key) { ArrayDeque() }.addLast(permit)
+                    grant()
+                }
+            }
+            if (granted == null) {
+                permit.completeExceptionally(RejectedExecutionException(CLOSED_MESSAGE))
+            } else {
+                permit.whenComplete { _, _ ->
+                    if (permit.isCancelled) {
+                        remove(priority, key, permit)
+                    }
+                }
+                release(granted)
+            }
+        }
+
+        fun throttle(retryAfterNanos: Long) {
+            synchronized(lock) {
+                rate = max(permitsPerSecond * MIN_RATE_FRACTION, rate / 2)
+                tokens = 0.0
+                refilled = System.nanoTime()
+                blockedUntil = max(blockedUntil, refilled + max(0L, retryAfterNanos))
+            }
+        }
+
+        fun recover() {
+            synchronized(lock) {
+                if (rate < permitsPerSecond) {
+                    rate = min(permitsPerSecond, rate + permitsPerSecond * RECOVERY_FRACTION)
+                }
+            }
+        }
+
+        fun close() {
+            val waiting = synchronized(lock) {
+                wake?.cancel(false)
+                wake = null
+                lanes.values
+                    .flatMap { queues -> queues.values.flatten().also { queues.clear() } }
+            }
+            waiting.forEach { permit ->
+                permit.completeExceptionally(RejectedExecutionException(CLOSED_MESSAGE))
+            }
+        }
+
+        private fun remove(priority: RequestPriority, key: String, permit: CompletableFuture<Void?>) {
+            synchronized(lock) {
+                val queues = lanes.getValue(priority)
+                queues[key]?.let { queue ->
+                    queue.remove(permit)
+                    if (queue.isEmpty()) {
+                        queues.remove(key)
+                    }
+                }
+            }
+        }
+
+        /**
+         * Completes the [granted] permits. A permit that was cancelled after being granted returns
+         * its token, which is offered to the next waiter.
+         */
+        private fun release(granted: List<CompletableFuture<Void?>>) {
+            var batch = granted
+            while (batch.isNotEmpty()) {
+                val returned = batch.count { permit -> !permit.complete(null) }
+                batch = if (returned > 0) {
+                    synchronized(lock) {
+                        tokens = min(burst.toDouble(), tokens + returned)
+                        grant()
+                    }
+                } else {
+                    listOf()
+                }
+            }
+        }
+
+        private fun wakeUp() {
+            val granted = synchronized(lock) {
+                wake = null
+                if (closed) listOf() else grant()
+            }
+            release(granted)
+        }
+
+        /**
+         * Takes permits to be granted from the lanes in priority order, stopping at the first lane
+         * that still has waiters once the tokens available to it are spent, and schedules a wake-up
+         * for when the next token is due. Must be invoked while holding [lock].
+         */
+        private fun grant(): List<CompletableFuture<Void?>> {
+            val now = System.nanoTime()
+            val granted = ArrayList<CompletableFuture<Void?>>()
+            var waiting: RequestPriority? = null
+            if (now - blockedUntil >= 0) {
+                refill(now)
+            }
+            for (priority in LANE_ORDER) {
+                val queues = lanes.getValue(priority)
+                val floor = minimumTokens(priority)
+                while (now - blockedUntil >= 0 && tokens >= floor) {
+                    val permit = next(queues) ?: break
+                    granted.add(permit)
+                    tokens--
+                }
+                if (queues.values.any { queue -> queue.any { permit -> !permit.isDone } }) {
+                    waiting = priority
+                    break
+                }
+                queues.clear()
+            }
+            waiting?.let { priority -> scheduleWake(now, minimumTokens(priority)) }
+            return granted
+        }
+
+        /**
+         * Removes and returns the first waiting permit of the key at the head of [queues], moving
+         * that key to the tail; permits that are already complete are discarded along the way.
+         */
+        private fun next(
+            queues: LinkedHashMap<String, ArrayDeque<CompletableFuture<Void?>>>
+        ): CompletableFuture<Void?>? {
+            while (queues.isNotEmpty()) {
+                val entry = queues.entries.first()
+                queues.remove(entry.key)
+                val queue = entry.value
+                var permit = queue.removeFirstOrNull()
+                while (permit != null && permit.isDone) {
+                    permit = queue.removeFirstOrNull()
+                }
+                if (queue.isNotEmpty()) {
+                    queues[entry.key] = queue
+                }
+                if (permit != null) {
+                    return permit
+                }
+            }
+            return null
+        }
+
+        private fun minimumTokens(priority: RequestPriority): Double {
+            return if (priority == RequestPriority.INTERACTIVE) 1.0 else 1.0 + reserve
+        }
+
+        private fun refill(now: Long) {
+            val start = max(refilled, blockedUntil)
+            if (now - start > 0) {
+                tokens = min(burst.toDouble(), tokens + (now - start) * rate / NANOS_PER_SECOND)
+            }
+            refilled = now
+        }
+
+        private fun scheduleWake(now: Long, needed: Double) {
+            val blocked = max(0L, blockedUntil - now)
+            val refill = max(0L, ((needed - tokens) * NANOS_PER_SECOND / rate).toLong())
+            val at = now + max(MIN_WAIT_NANOS, blocked + refill)
+            val current = wake
+            if (current == null || current.isDone || at - wakeAt < 0) {
+                current?.cancel(false)
+                wakeAt = at
+                wake = scheduler.schedule(
+                    Runnable { wakeUp() }, at - now, TimeUnit.NANOSECONDS
+                )
+            }
+        }
+
+    }
+
+    private companion object {
+
+        const val MIN_RATE_FRACTION = 0.1
+        const val RECOVERY_FRACTION = 0.05
+        const val GAMES_SEGMENT = "games"
+        const val SHARED_QUEUE_KEY = ""
+        const val NANOS_PER_SECOND = 1_000_000_000.0
+        const val MIN_WAIT_NANOS = 1_000_000L
+        const val CLOSED_MESSAGE = "Rate limiter has been closed"
+
+        val LANE_ORDER = listOf(RequestPriority.INTERACTIVE, RequestPriority.BACKGROUND)
+
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.HttpUrl
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Decides when each outgoing request may be sent, by holding deferrable requests for the next
+ * burst (if [bursts] is not `null`) and then waiting for a token (if [limiter] is not `null`).
+ */
+internal class RequestGate(
+    private val bursts: BurstScheduler?,
+    private val limiter: RateLimiter?
+) {
+
+    /**
+     * Returns a future that completes when a request to [url], in the lane given by [priority],
+     * may be sent. If burst scheduling is enabled, [RequestPriority.BACKGROUND] requests are held
+     * for the next burst; any other request is released immediately, and releases the held
+     * requests along with it. If rate limiting is enabled, a released request then waits for a
+     * token. Cancelling the returned future withdraws the request from the rate limiter's queue;
+     * if the request is rejected at either stage, the returned future completes exceptionally.
+     */
+    fun admit(priority: RequestPriority, url: HttpUrl): CompletableFuture<Void?> {
+        val released = when {
+            bursts == null ->
+                CompletableFuture.completedFuture<Void?>(null)
+            priority == RequestPriority.BACKGROUND ->
+                bursts.defer()
+            else ->
+                CompletableFuture.completedFuture<Void?>(null).also { bursts.flush() }
+        }
+        return limiter
+            ?.let { limiter ->
+                CompletableFuture<Void?>().also { permit ->
+                    released.whenComplete { _, throwable ->
+                        if (throwable != null) {
+                            permit.completeExceptionally(throwable)
+                        } else {
+                            limiter.acquire(priority, url, permit)
+                        }
+                    }
+                }
+            }
+            ?: released
+    }
+
+    /**
+     * Releases the requests held for the next burst, then closes the rate limiter. Every request
+     * still waiting for a token, including those just released, is rejected with a
+     * [java.util.concurrent.RejectedExecutionException]; if rate limiting is disabled, the
+     * released requests are sent.
+     */
+    fun close() {
+        bursts?.flush()
+        limiter?.close()
+    }
+
+}
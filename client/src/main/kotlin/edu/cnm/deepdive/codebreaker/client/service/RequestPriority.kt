@@ -0,0 +1,40 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+/**
+ * Identifies the lane in which a [CodebreakerService] issues its requests. Each lane is served by
+ * its own OkHttp dispatcher, so requests queued in one lane never delay requests in another.
+ */
+enum class RequestPriority {
+
+    /**
+     * Requests made in direct response to a user action (e.g. starting a game or submitting a
+     * guess). This is the lane used by [CodebreakerService.instance].
+     */
+    INTERACTIVE,
+
+    /**
+     * Requests that no user is waiting on (e.g. summary refreshes, prefetches, and polling). These
+     * are dispatched on low-priority threads, with a smaller per-host concurrency limit. If
+     * `burstMaxDelayMillis` is positive, they are also deferred, and sent together in bursts (or
+     * along with the next [INTERACTIVE] request), to limit how often a mobile radio is woken. If
+     * `rateLimitPerSecond` is positive, they wait for rate-limit tokens behind any waiting
+     * [INTERACTIVE] request, and may not take the last `rateLimitInteractiveReserve` tokens.
+     */
+    BACKGROUND
+
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.Interceptor
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.asResponseBody
+import okio.Buffer
+import okio.ForwardingSource
+import okio.Source
+import okio.buffer
+import java.io.IOException
+
+/**
+ * Fails any response whose body is larger than [maxBytes], so that an unexpectedly large response
+ * (for example, a game with an enormous guess history) cannot exhaust memory while it is being
+ * parsed. A response that declares a larger `Content-Length` fails immediately; one of unknown
+ * length fails as soon as more than [maxBytes] have been read from its body.
+ */
+internal class ResponseSizeLimitInterceptor(private val maxBytes: Long) : Interceptor {
+
+    @Throws(IOException::class)
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val response = chain.proceed(chain.request())
+        val body = response.body ?: return response
+        val contentLength = body.contentLength()
+        if (contentLength > maxBytes) {
+            response.close()
+            throw tooLarge(contentLength)
+        }
+        val limited = LimitedSource(body.source())
+        return response.newBuilder()
+            .body(limited.buffer().asResponseBody(body.contentType(), contentLength))
+            .build()
+    }
+
+    private fun tooLarge(length: Long): IOException {
+        return IOException("Response body of $length bytes exceeds limit of $maxBytes bytes")
+    }
+
+    /**
+     * Fails reads from [delegate] once more than [maxBytes] have been read in total.
+     */
+    private inner class LimitedSource(delegate: Source) : ForwardingSource(delegate) {
+
+        private var total = 0L
+
+        override fun read(sink: Buffer, byteCount: Long): Long {
+            val read = super.read(sink, byteCount)
+            if (read > 0) {
+                total += read
+                if (total > maxBytes) {
+                    throw tooLarge(total)
+                }
+            }
+            return read
+        }
+
+    }
+
+}
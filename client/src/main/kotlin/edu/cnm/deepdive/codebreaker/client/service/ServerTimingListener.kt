@@ -0,0 +1,212 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.Call
+import okhttp3.Connection
+import okhttp3.EventListener
+import okhttp3.HttpUrl
+import okhttp3.Response
+import java.net.InetSocketAddress
+import java.net.Proxy
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.math.ceil
+import kotlin.math.max
+import kotlin.math.roundToLong
+
+/**
+ * Splits the latency of each call into the time it spent queued in the client, the time the
+ * service spent processing it (as reported in the `Server-Timing` response header), and the
+ * remainder, which is attributed to the network. For each operation (identified by HTTP method and
+ * path template, as in [AdaptiveTimeouts]), the splits of the last [windowSize] completed calls are
+ * kept, and summarized on request by [snapshot].
+ *
+ * A call is timed from the moment it is enqueued (or executed) to the moment its response body has
+ * been consumed. It is considered queued until it first needs a connection, so the queue time
+ * includes waiting for a dispatcher slot (but not for the rate limiter, which grants tokens before
+ * a call is enqueued); connection setup counts as network time. Calls that fail, that are answered
+ * from the cache or a fixture without reaching the network, or whose responses carry no
+ * `Server-Timing` duration are not recorded.
+ */
+internal class ServerTimingListener(
+    private val baseUrl: HttpUrl,
+    private val windowSize: Int
+) : EventListener.Factory {
+
+    private val windows = ConcurrentHashMap<String, SplitWindow>()
+
+    override fun create(call: Call): EventListener = CallTimer()
+
+    /**
+     * Returns a summary of the recent latency splits of each operation for which any have been
+     * recorded.
+     */
+    fun snapshot(): Map<String, LatencyBreakdown> {
+        return windows.mapValues { (_, window) -> window.breakdown() }
+    }
+
+    private fun record(call: Call, total: Long, queue: Long, server: Long) {
+        windows
+            .computeIfAbsent(operationOf(baseUrl, call.request())) { SplitWindow(windowSize) }
+            .record(total, queue, server, max(0L, total - queue - server))
+    }
+
+    /**
+     * Collects the timings of a single call. OkHttp delivers the events of a call in order, with
+     * each delivery happening-before the next, so no further synchronization is needed.
+     */
+    private inner class CallTimer : EventListener() {
+
+        private var start = 0L
+        private var dispatched = 0L
+        private var server: Long? = null
+
+        override fun callStart(call: Call) {
+            start = System.nanoTime()
+        }
+
+        override fun proxySelectStart(call: Call, url: HttpUrl) {
+            markDispatched()
+        }
+
+        override fun dnsStart(call: Call, domainName: String) {
+            markDispatched()
+        }
+
+        override fun connectStart(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy) {
+            markDispatched()
+        }
+
+        override fun connectionAcquired(call: Call, connection: Connection) {
+            markDispatched()
+        }
+
+        override fun responseHeadersEnd(call: Call, response: Response) {
+            server = parseServerTiming(response.headers(SERVER_TIMING_HEADER))
+        }
+
+        override fun callEnd(call: Call) {
+            val server = server
+            if (dispatched != 0L && server != null) {
+                record(call, System.nanoTime() - start, dispatched - start, server)
+            }
+        }
+
+        private fun markDispatched() {
+            if (dispatched == 0L) {
+                dispatched = System.nanoTime()
+            }
+        }
+
+    }
+
+    /**
+     * Ring buffer of the most recent latency splits of one operation.
+     */
+    private class SplitWindow(capacity: Int) {
+
+        private val totals = LongArray(capacity)
+        private val queues = LongArray(capacity)
+        private val servers = LongArray(capacity)
+        private val networks = LongArray(capacity)
+        private var count = 0
+        private var next = 0
+
+        fun record(total: Long, queue: Long, server: Long, network: Long) {
+            synchronized(totals) {
+                totals[next] = total
+                queues[next] = queue
+                servers[next] = server
+                networks[next] = network
+                next = (next + 1) % totals.size
+                if (count < totals.size) {
+                    count++
+                }
+            }
+        }
+
+        fun breakdown(): LatencyBreakdown {
+            val (total, queue, server, network) = synchronized(totals) {
+                listOf(totals, queues, servers, networks).map { it.copyOf(count) }
+            }
+            val threshold = percentile(total.sortedArray(), TAIL_PERCENTILE)
+            val tail = total.indices.filter { total[it] >= threshold }
+            return LatencyBreakdown(
+                total.size,
+                LatencySplit(
+                    median(total), median(queue), median(server), median(network)
+                ),
+                LatencySplit(
+                    mean(total, tail), mean(queue, tail), mean(server, tail), mean(network, tail)
+                )
+            )
+        }
+
+        private fun median(values: LongArray): Duration {
+            return Duration.ofNanos(percentile(values.sortedArray(), MEDIAN_PERCENTILE))
+        }
+
+        private fun percentile(sorted: LongArray, percentile: Double): Long {
+            val rank = (ceil(percentile * sorted.size).toInt() - 1).coerceIn(0, sorted.size - 1)
+            return sorted[rank]
+        }
+
+        private fun mean(values: LongArray, indices: List<Int>): Duration {
+            return Duration.ofNanos(indices.sumOf { values[it] } / indices.size)
+        }
+
+    }
+
+    private companion object {
+
+        const val SERVER_TIMING_HEADER = "Server-Timing"
+        const val APP_METRIC = "app"
+        const val DURATION_PARAMETER = "dur="
+        const val METRIC_SEPARATOR = ","
+        const val PARAMETER_SEPARATOR = ";"
+        const val QUOTE = '"'
+        const val NANOS_PER_MILLI = 1_000_000.0
+        const val MEDIAN_PERCENTILE = 0.5
+        const val TAIL_PERCENTILE = 0.99
+
+        /**
+         * Returns the processing time reported in the `Server-Timing` [headers] of a response:
+         * the duration of the `app` metric if present, otherwise the longest duration of any
+         * metric (since the service's own sub-metrics cannot exceed its total), or `null` if no
+         * metric has a duration.
+         */
+        fun parseServerTiming(headers: List<String>): Long? {
+            val durations = headers
+                .flatMap { it.split(METRIC_SEPARATOR) }
+                .mapNotNull { metric ->
+                    val parts = metric.split(PARAMETER_SEPARATOR).map(String::trim)
+                    parts
+                        .drop(1)
+                        .firstOrNull { it.startsWith(DURATION_PARAMETER, ignoreCase = true) }
+                        ?.substring(DURATION_PARAMETER.length)
+                        ?.trim(QUOTE)
+                        ?.toDoubleOrNull()
+                        ?.let { parts[0] to it }
+                }
+            val millis = durations.firstOrNull { (name, _) -> name == APP_METRIC }?.second
+                ?: durations.maxOfOrNull { (_, duration) -> duration }
+            return millis?.let { (it * NANOS_PER_MILLI).roundToLong() }
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import kotlin.math.max
+
+/**
+ * Speculatively starts the next game, so that a request to start a game with the same settings
+ * completes from the prepared game rather than waiting for the service. After each game is
+ * started (whether or not from a prepared game), another game with the same pool and length is
+ * started in the background, with [prepare]. A prepared game is handed out at most once; if a
+ * game is then requested with different settings, the prepared game is deleted in the background,
+ * with [delete], and the request is sent to the service as usual.
+ *
+ * A prepared game that is still in flight when it is requested is returned as it is; if it fails,
+ * the request falls back to [start]. Note that the `created` timestamp of a game handed out from
+ * preparation is the time at which it was prepared, not the time at which it was requested.
+ *
+ * Each prepared game is a real game on the service. On shutdown, [close] deletes the prepared
+ * game synchronously, while requests can still be sent; if the client exits without shutting
+ * down (as an Android process usually does, being killed rather than stopped), or the deletion
+ * does not complete in time, the prepared game is orphaned: it remains on the service, unsolved
+ * and with no guesses, and is listed among the user's games. Enabling speculative starts thus
+ * costs up to one orphaned game per client session that ends this way.
+ */
+internal class SpeculativeStarter(
+    private val start: (Game, RequestPriority) -> CompletableFuture<Game>,
+    private val prepare: (Game) -> CompletableFuture<Game>,
+    private val delete: (String) -> CompletableFuture<Void?>
+) {
+
+    private val lock = Any()
+    private var preparedSettings: Settings? = null
+    private var prepared: CompletableFuture<Game>? = null
+    private var closed = false
+
+    fun startGame(game: Game, priority: RequestPriority): CompletableFuture<Game> {
+        val settings = Settings(game.pool, game.length)
+        val (candidate, stale) = synchronized(lock) {
+            val current = prepared
+            prepared = null
+            if (preparedSettings == settings) current to null else null to current
+        }
+        stale?.let(::discardLater)
+        val started = candidate
+            ?.exceptionallyCompose { start(game, priority) }
+            ?: start(game, priority)
+        started.thenRun { prepareNext(settings) }
+        return started
+    }
+
+    /**
+     * Stops preparing games, and discards the prepared game, if any, waiting up to [timeout] for
+     * it to finish starting and then to be deleted. This must be invoked while requests can still
+     * be sent, since a deletion attempted after the service has stopped accepting requests would
+     * fail, orphaning the game.
+     *
+     * @return `true` if no game was prepared, or if the prepared game either failed to start or
+     * was deleted before the deadline; `false` if the prepared game may have been orphaned.
+     */
+    fun close(timeout: Duration): Boolean {
+        val stale = synchronized(lock) {
+            closed = true
+            prepared.also { prepared = null }
+        } ?: return true
+        val deadline = System.nanoTime() + timeout.toNanos()
+        val game = try {
+            stale.get(timeout.toNanos(), TimeUnit.NANOSECONDS)
+        } catch (e: ExecutionException) {
+            return true
+        } catch (e: TimeoutException) {
+            discardLater(stale)
+            return false
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+            discardLater(stale)
+            return false
+        }
+        return try {
+            delete(game.id).get(max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+            true
+        } catch (e: ExecutionException) {
+            false
+        } catch (e: TimeoutException) {
+            false
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+            false
+        }
+    }
+
+    private fun prepareNext(settings: Settings) {
+        if (synchronized(lock) { closed }) {
+            return
+        }
+        val next = prepare(Game().pool(settings.pool).length(settings.length))
+        val stale = synchronized(lock) {
+            if (closed) {
+                next
+            } else {
+                prepared.also {
+                    prepared = next
+                    preparedSettings = settings
+                }
+            }
+        }
+        stale?.let(::discardLater)
+    }
+
+    /**
+     * Deletes [game] in the background once it has started. Since the deletion is only sent when
+     * the game completes, it fails (orphaning the game) if the service has shut down by then.
+     */
+    private fun discardLater(game: CompletableFuture<Game>) {
+        game
+            .thenCompose { delete(it.id) }
+            .exceptionally { null }
+    }
+
+    private data class Settings(val pool: String, val length: Int)
+
+}
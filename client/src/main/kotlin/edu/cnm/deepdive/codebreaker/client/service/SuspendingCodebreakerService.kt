@@ -0,0 +1,156 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+import kotlinx.coroutines.flow.Flow
+import java.time.Duration
+
+/**
+ * Coroutine-based variant of [CodebreakerService], for Kotlin consumers. Each operation suspends
+ * until the service responds, without allocating a [java.util.concurrent.CompletableFuture];
+ * cancelling the calling coroutine cancels the underlying HTTP call. Streams of results (paged
+ * listings, polling, and bulk operations) are exposed as cold [Flow]s, which issue requests only
+ * while collected.
+ *
+ * This interface shares its connections, dispatcher lanes, and configuration with
+ * [CodebreakerService.instance], and throws the same exceptions.
+ */
+interface SuspendingCodebreakerService {
+
+    /**
+     * Starts a new game with the pool and code length of [game].
+     *
+     * @throws InvalidPayloadException If the pool or code length is invalid.
+     */
+    suspend fun startGame(game: Game): Game
+
+    /**
+     * Retrieves the game with the specified ID.
+     *
+     * @throws ResourceNotFoundException If there is no such game.
+     */
+    suspend fun getGame(gameId: String): Game
+
+    /**
+     * Retrieves the lightweight status of the game with the specified ID.
+     *
+     * @throws ResourceNotFoundException If there is no such game.
+     */
+    suspend fun getGameStatus(gameId: String): GameStatus
+
+    /**
+     * Retrieves the games with the specified IDs in a single request. IDs that do not identify an
+     * existing game are omitted from the result.
+     */
+    suspend fun getGames(gameIds: Collection<String>): List<Game>
+
+    /**
+     * Lists the games matching the specified query, most recently started first. Each page is
+     * requested when collection reaches it; apply [kotlinx.coroutines.flow.buffer] to the returned
+     * flow to request pages ahead of the collector.
+     */
+    fun listGames(query: GameQuery): Flow<Game>
+
+    /**
+     * Deletes the game with the specified ID.
+     *
+     * @throws ResourceNotFoundException If there is no such game.
+     */
+    suspend fun deleteGame(gameId: String)
+
+    /**
+     * Deletes the games with the specified IDs in a single request. IDs that do not identify an
+     * existing game are ignored.
+     */
+    suspend fun deleteGames(gameIds: Collection<String>)
+
+    /**
+     * Submits a guess for the specified game. If the guess is the solution, [Guess.getGame] of the
+     * result returns the solved [Game], with its secret code revealed.
+     *
+     * @throws InvalidPayloadException If the guess is invalid for [game].
+     * @throws GameSolvedException If [game] has already been solved.
+     */
+    suspend fun submitGuess(game: Game, guess: Guess): Guess
+
+    /**
+     * Submits a guess for the specified game, on the condition that exactly [expectedVersion]
+     * guesses have been submitted for it. If the guess is the solution, [Guess.getGame] of the
+     * result returns the solved [Game], with its secret code revealed.
+     *
+     * @throws InvalidPayloadException If the guess is invalid for [game].
+     * @throws GameSolvedException If [game] has already been solved.
+     * @throws GameConflictException If the game is no longer at [expectedVersion];
+     * [GameConflictException.applyTo] brings [game] up to date.
+     */
+    suspend fun submitGuess(game: Game, guess: Guess, expectedVersion: Int): Guess
+
+    /**
+     * Retrieves the guess with the specified ID for a given game.
+     *
+     * @throws ResourceNotFoundException If there is no such game or guess.
+     */
+    suspend fun getGuess(gameId: String, guessId: String): Guess
+
+    /**
+     * Polls the status of the specified game every [interval], emitting each status that differs
+     * from the one before it. The flow completes after emitting a solved status, and fails if a
+     * request fails (for example, because the game has been deleted).
+     */
+    fun watchGame(gameId: String, interval: Duration): Flow<GameStatus>
+
+    /**
+     * Starts a game for each element of [games], with at most [concurrency] requests in flight,
+     * emitting the started games in order of completion.
+     */
+    fun startGames(games: Flow<Game>, concurrency: Int = DEFAULT_CONCURRENCY): Flow<Game>
+
+    /**
+     * Retrieves the game for each ID in [gameIds], with at most [concurrency] requests in flight,
+     * emitting the games in order of completion.
+     */
+    fun getGames(gameIds: Flow<String>, concurrency: Int = DEFAULT_CONCURRENCY): Flow<Game>
+
+    /**
+     * Deletes the game for each ID in [gameIds], with at most [concurrency] requests in flight,
+     * emitting the ID of each deleted game in order of completion.
+     */
+    fun deleteGames(gameIds: Flow<String>, concurrency: Int = DEFAULT_CONCURRENCY): Flow<String>
+
+    /**
+     * Returns a view of this service that issues all of its requests in the specified lane.
+     */
+    fun withPriority(priority: RequestPriority): SuspendingCodebreakerService
+
+    companion object {
+
+        /**
+         * Default limit on requests in flight for the bulk operations of this interface.
+         */
+        const val DEFAULT_CONCURRENCY = 8
+
+        /**
+         * Instance that issues its requests in the [RequestPriority.INTERACTIVE] lane.
+         */
+        val instance: SuspendingCodebreakerService
+            get() = SuspendingCodebreakerServiceImpl.forPriority(RequestPriority.INTERACTIVE)
+
+    }
+
+}
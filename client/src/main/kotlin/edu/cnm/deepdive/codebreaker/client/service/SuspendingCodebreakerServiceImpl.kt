@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.GamePage
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.future.await
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.sync.Semaphore
+import java.time.Duration
+
+/**
+ * Implements [SuspendingCodebreakerService] over the contexts, lanes, and batchers of
+ * [CodebreakerServiceImpl], issuing every request in the lane given by [priority].
+ */
+internal class SuspendingCodebreakerServiceImpl private constructor(
+    private val priority: RequestPriority
+) : SuspendingCodebreakerService {
+
+    override suspend fun startGame(game: Game): Game {
+        if (!isValidGame(game)) {
+            throw InvalidPayloadException()
+        }
+        return CodebreakerServiceImpl.starter()
+            ?.startGame(game, priority)
+            ?.await()
+            ?: CodebreakerServiceImpl.execute(priority) { api -> api.startGame(game) }
+    }
+
+    override suspend fun getGame(gameId: String): Game {
+        return CodebreakerServiceImpl.batcher(priority)
+            ?.getGame(gameId)
+            ?.await()
+            ?: CodebreakerServiceImpl.execute(priority) { api -> api.getGame(gameId) }
+    }
+
+    override suspend fun getGameStatus(gameId: String): GameStatus {
+        return CodebreakerServiceImpl.execute(priority) { api -> api.getGameStatus(gameId) }
+    }
+
+    override suspend fun getGames(gameIds: Collection<String>): List<Game> {
+        return if (gameIds.isEmpty()) {
+            listOf()
+        } else {
+            CodebreakerServiceImpl.execute(priority) { api ->
+                api.getGames(
+                    gameIds.joinToString(GAME_ID_SEPARATOR),
+                    null, null, null, null, null, null, null
+                )
+            }
+                .games
+        }
+    }
+
+    override fun listGames(query: GameQuery): Flow<Game> {
+        return flow {
+            var cursor: String? = null
+            do {
+                val page = getGamePage(query, cursor)
+                page.games.forEach { emit(it) }
+                cursor = page.nextCursor
+            } while (cursor != null)
+        }
+    }
+
+    override suspend fun deleteGame(gameId: String) {
+        CodebreakerServiceImpl.execute(priority) { api -> api.deleteGame(gameId) }
+    }
+
+    override suspend fun deleteGames(gameIds: Collection<String>) {
+        if (gameIds.isNotEmpty()) {
+            CodebreakerServiceImpl.execute(priority) { api ->
+                api.deleteGames(gameIds.joinToString(GAME_ID_SEPARATOR), null)
+            }
+        }
+    }
+
+    override suspend fun submitGuess(game: Game, guess: Guess): Guess {
+        return executeSubmitGuess(game, guess, null)
+    }
+
+    override suspend fun submitGuess(game: Game, guess: Guess, expectedVersion: Int): Guess {
+        return executeSubmitGuess(game, guess, expectedVersion)
+    }
+
+    private suspend fun executeSubmitGuess(game: Game, guess: Guess, expectedVersion: Int?): Guess {
+        if (!isValidGuess(game, guess)) {
+            throw InvalidPayloadException()
+        }
+        val memo = CodebreakerServiceImpl.guessMemo()
+        return memo?.lookup(game, guess)
+            ?: CodebreakerServiceImpl
+                .execute(priority) { api ->
+                    api.submitGuess(game.id, guess, expectedVersion?.let(::entityTag))
+                }
+                .also { memo?.record(game, it) }
+    }
+
+    override suspend fun getGuess(gameId: String, guessId: String): Guess {
+        return CodebreakerServiceImpl.execute(priority) { api -> api.getGuess(gameId, guessId) }
+    }
+
+    override fun watchGame(gameId: String, interval: Duration): Flow<GameStatus> {
+        return flow {
+            do {
+                val status = getGameStatus(gameId)
+                emit(status)
+                val solved = status.solved == true
+                if (!solved) {
+                    delay(interval.toMillis())
+                }
+            } while (!solved)
+        }
+            .distinctUntilChanged()
+    }
+
+    override fun startGames(games: Flow<Game>, concurrency: Int): Flow<Game> {
+        return games.mapConcurrently(concurrency) { startGame(it) }
+    }
+
+    override fun getGames(gameIds: Flow<String>, concurrency: Int): Flow<Game> {
+        return gameIds.mapConcurrently(concurrency) { getGame(it) }
+    }
+
+    override fun deleteGames(gameIds: Flow<String>, concurrency: Int): Flow<String> {
+        return gameIds.mapConcurrently(concurrency) { gameId ->
+            deleteGame(gameId)
+            gameId
+        }
+    }
+
+    override fun withPriority(priority: RequestPriority): SuspendingCodebreakerService {
+        return forPriority(priority)
+    }
+
+    private suspend fun getGamePage(query: GameQuery, cursor: String?): GamePage {
+        return CodebreakerServiceImpl.execute(priority) { api ->
+            with(query) {
+                api.getGames(
+                    null, solved, pool, length, startedAfter, startedBefore, cursor, pageSize
+                )
+            }
+        }
+    }
+
+    companion object {
+
+        private const val GAME_ID_SEPARATOR = ","
+
+        private val lanes: Map<RequestPriority, SuspendingCodebreakerService> =
+            RequestPriority.entries.associateWith { SuspendingCodebreakerServiceImpl(it) }
+
+        fun forPriority(priority: RequestPriority): SuspendingCodebreakerService {
+            return lanes.getValue(priority)
+        }
+
+        /**
+         * Applies [transform] to each element, running at most [concurrency] transformations at a
+         * time in child coroutines of the collector, and emits the results in order of completion.
+         * A failed transformation cancels the others and fails the flow.
+         */
+        private fun <T, R> Flow<T>.mapConcurrently(
+            concurrency: Int,
+            transform: suspend (T) -> R
+        ): Flow<R> {
+            require(concurrency > 0) { "concurrency must be positive" }
+            val upstream = this
+            return channelFlow {
+                val permits = Semaphore(concurrency)
+                upstream.collect { item ->
+                    permits.acquire()
+                    launch {
+                        try {
+                            send(transform(item))
+                        } finally {
+                            permits.release()
+                        }
+                    }
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,325 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.GameDelta
+import edu.cnm.deepdive.codebreaker.api.model.GamePage
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+import edu.cnm.deepdive.codebreaker.api.service.CodebreakerApi
+import okhttp3.Interceptor
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.toResponseBody
+import okio.Buffer
+import retrofit2.Call
+import java.time.OffsetDateTime
+import java.time.ZoneOffset
+import java.util.Properties
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+
+/**
+ * Checks that [DirectCodebreakerApi] is a drop-in replacement for the Retrofit-generated
+ * [CodebreakerApi]: for every operation, both must send the same request, and must return the same
+ * result for the same response, including error responses, empty responses, and malformed bodies.
+ */
+class DirectCodebreakerApiTest {
+
+    private val gson = buildGson()
+    private lateinit var client: OkHttpClient
+    private var cannedCode = OK
+    private var cannedBody = ""
+    private var sent: SentRequest? = null
+
+    @BeforeTest
+    fun setUp() {
+        client = OkHttpClient.Builder()
+            .addInterceptor(Interceptor { chain ->
+                val request = chain.request()
+                sent = SentRequest(
+                    request.method,
+                    request.url.toString(),
+                    request.headers.toList(),
+                    request.body?.contentType()?.toString(),
+                    request.body?.let { body -> Buffer().also(body::writeTo).readUtf8() }
+                )
+                Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(cannedCode)
+                    .message(MESSAGE)
+                    .header(ETAG_HEADER, ETAG)
+                    .body(cannedBody.toResponseBody(JSON_MEDIA_TYPE.toMediaType()))
+                    .build()
+            })
+            .build()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        client.dispatcher.executorService.shutdown()
+    }
+
+    @Test
+    fun getGames_allParameters() {
+        assertEquivalent(OK, gson.toJson(page())) { api ->
+            api.getGames("a,b", true, POOL, CODE_LENGTH, START, START.plusDays(1), "next", 5)
+        }
+    }
+
+    @Test
+    fun getGames_noParameters() {
+        assertEquivalent(OK, gson.toJson(page())) { api ->
+            api.getGames(null, null, null, null, null, null, null, null)
+        }
+    }
+
+    @Test
+    fun getGames_reservedCharactersInParameters() {
+        assertEquivalent(OK, gson.toJson(page())) { api ->
+            api.getGames("a b,c/d", false, "+&=?#é", null, null, null, "x y+z", null)
+        }
+    }
+
+    @Test
+    fun deleteGames_noContent() {
+        assertEquivalent(NO_CONTENT, "") { api -> api.deleteGames("a,b", false) }
+    }
+
+    @Test
+    fun deleteGames_unexpectedBody() {
+        assertEquivalent(OK, gson.toJson(page())) { api -> api.deleteGames(null, null) }
+    }
+
+    @Test
+    fun startGame_created() {
+        assertEquivalent(CREATED, gson.toJson(game())) { api ->
+            api.startGame(Game().pool(POOL).length(CODE_LENGTH))
+        }
+    }
+
+    @Test
+    fun startGame_badRequest() {
+        assertEquivalent(BAD_REQUEST, ERROR_BODY) { api ->
+            api.startGame(Game().pool("").length(0))
+        }
+    }
+
+    @Test
+    fun getGame_ok() {
+        assertEquivalent(OK, gson.toJson(game())) { api -> api.getGame(GAME_ID) }
+    }
+
+    @Test
+    fun getGame_notFound() {
+        assertEquivalent(NOT_FOUND, ERROR_BODY) { api -> api.getGame(GAME_ID) }
+    }
+
+    @Test
+    fun getGame_emptyErrorBody() {
+        assertEquivalent(INTERNAL_SERVER_ERROR, "") { api -> api.getGame(GAME_ID) }
+    }
+
+    @Test
+    fun getGame_noContent() {
+        assertEquivalent(NO_CONTENT, "") { api -> api.getGame(GAME_ID) }
+    }
+
+    @Test
+    fun getGame_malformedBody() {
+        assertEquivalent(OK, "{\"id\":") { api -> api.getGame(GAME_ID) }
+    }
+
+    @Test
+    fun getGame_trailingContent() {
+        assertEquivalent(OK, gson.toJson(game()) + " {}") { api -> api.getGame(GAME_ID) }
+    }
+
+    @Test
+    fun getGame_reservedCharactersInId() {
+        assertEquivalent(OK, gson.toJson(game())) { api -> api.getGame("a/b c?d") }
+    }
+
+    @Test
+    fun deleteGame_noContent() {
+        assertEquivalent(NO_CONTENT, "") { api -> api.deleteGame(GAME_ID) }
+    }
+
+    @Test
+    fun deleteGame_notFound() {
+        assertEquivalent(NOT_FOUND, ERROR_BODY) { api -> api.deleteGame(GAME_ID) }
+    }
+
+    @Test
+    fun getGameStatus_ok() {
+        val status = GameStatus()
+            .id(GAME_ID)
+            .created(START)
+            .pool(POOL)
+            .length(CODE_LENGTH)
+            .solved(false)
+            .guessCount(1)
+            .lastGuess(guess())
+        assertEquivalent(OK, gson.toJson(status)) { api -> api.getGameStatus(GAME_ID) }
+    }
+
+    @Test
+    fun submitGuess_unconditional() {
+        assertEquivalent(CREATED, gson.toJson(guess())) { api ->
+            api.submitGuess(GAME_ID, Guess().text(GUESS_TEXT), null)
+        }
+    }
+
+    @Test
+    fun submitGuess_conditional() {
+        assertEquivalent(CREATED, gson.toJson(guess())) { api ->
+            api.submitGuess(GAME_ID, Guess().text(GUESS_TEXT), entityTag(1))
+        }
+    }
+
+    @Test
+    fun submitGuess_preconditionFailed() {
+        val delta = GameDelta()
+            .version(2)
+            .solved(false)
+            .guesses(listOf(guess()))
+        assertEquivalent(PRECONDITION_FAILED, gson.toJson(delta)) { api ->
+            api.submitGuess(GAME_ID, Guess().text(GUESS_TEXT), entityTag(1))
+        }
+    }
+
+    @Test
+    fun submitGuess_conflict() {
+        assertEquivalent(CONFLICT, ERROR_BODY) { api ->
+            api.submitGuess(GAME_ID, Guess().text(GUESS_TEXT), null)
+        }
+    }
+
+    @Test
+    fun getGuess_ok() {
+        assertEquivalent(OK, gson.toJson(guess())) { api -> api.getGuess(GAME_ID, GUESS_ID) }
+    }
+
+    @Test
+    fun getGuess_notFound() {
+        assertEquivalent(NOT_FOUND, ERROR_BODY) { api -> api.getGuess(GAME_ID, GUESS_ID) }
+    }
+
+    private fun <T> assertEquivalent(code: Int, body: String, invoke: (CodebreakerApi) -> Call<T>) {
+        cannedCode = code
+        cannedBody = body
+        val expected = exchange(Transport.RETROFIT, invoke)
+        val actual = exchange(Transport.DIRECT, invoke)
+        assertEquals(expected.request, actual.request, "Requests differ")
+        assertEquals(expected.outcome, actual.outcome, "Outcomes differ")
+    }
+
+    private fun <T> exchange(transport: Transport, invoke: (CodebreakerApi) -> Call<T>): Exchange {
+        sent = null
+        val properties = Properties().apply {
+            setProperty(BASE_URL_KEY, BASE_URL)
+            setProperty(TRANSPORT_KEY, transport.name.lowercase())
+        }
+        val call = invoke(buildApi(properties, gson, client))
+        val outcome = try {
+            val response = call.execute()
+            Outcome(
+                response.code(),
+                response.message(),
+                response.headers().toList(),
+                response.isSuccessful,
+                response.body()?.let(gson::toJson),
+                response.errorBody()?.contentType()?.toString(),
+                response.errorBody()?.string(),
+                null
+            )
+        } catch (e: Exception) {
+            Outcome(null, null, null, null, null, null, null, e.javaClass.name)
+        }
+        return Exchange(assertNotNull(sent, "No request sent by $transport"), outcome)
+    }
+
+    private fun page(): GamePage {
+        return GamePage()
+            .games(listOf(game()))
+            .nextCursor("next")
+    }
+
+    private fun game(): Game {
+        return Game(GAME_ID, START, false, null, mutableListOf(guess()))
+            .pool(POOL)
+            .length(CODE_LENGTH)
+    }
+
+    private fun guess(): Guess {
+        return Guess(GUESS_ID, START.plusSeconds(1), 1, 2, false)
+            .text(GUESS_TEXT)
+    }
+
+    private data class SentRequest(
+        val method: String,
+        val url: String,
+        val headers: List<Pair<String, String>>,
+        val contentType: String?,
+        val body: String?
+    )
+
+    private data class Outcome(
+        val code: Int?,
+        val message: String?,
+        val headers: List<Pair<String, String>>?,
+        val successful: Boolean?,
+        val body: String?,
+        val errorContentType: String?,
+        val errorBody: String?,
+        val exception: String?
+    )
+
+    private data class Exchange(val request: SentRequest, val outcome: Outcome)
+
+    private companion object {
+        const val BASE_URL = "http://localhost/codebreaker-solitaire/"
+        const val BASE_URL_KEY = "baseUrl"
+        const val TRANSPORT_KEY = "transport"
+        const val JSON_MEDIA_TYPE = "application/json"
+        const val MESSAGE = "Status"
+        const val ETAG_HEADER = "ETag"
+        const val ETAG = "\"1\""
+        const val OK = 200
+        const val CREATED = 201
+        const val NO_CONTENT = 204
+        const val BAD_REQUEST = 400
+        const val NOT_FOUND = 404
+        const val CONFLICT = 409
+        const val PRECONDITION_FAILED = 412
+        const val INTERNAL_SERVER_ERROR = 500
+        const val ERROR_BODY = "{\"timestamp\":\"2026-01-01T00:00:00Z\",\"status\":404}"
+        const val GAME_ID = "game-1"
+        const val GUESS_ID = "guess-1"
+        const val POOL = "ABCDEF"
+        const val CODE_LENGTH = 4
+        const val GUESS_TEXT = "ABCD"
+        val START: OffsetDateTime = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.HttpUrl
+import okhttp3.HttpUrl.Companion.toHttpUrl
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
+import kotlin.test.assertIs
+import kotlin.test.assertTrue
+
+/**
+ * Checks the order in which [RateLimiter] grants tokens to waiting requests across lanes and
+ * games, and that waiters that are cancelled or closed out never hold up those behind them.
+ */
+class RateLimiterTest {
+
+    private val scheduler: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor()
+    private val granted = CopyOnWriteArrayList<String>()
+    private val recorded = ConcurrentHashMap<CompletableFuture<Void?>, CompletableFuture<Void?>>()
+
+    @AfterTest
+    fun tearDown() {
+        scheduler.shutdownNow()
+    }
+
+    @Test
+    fun acquire_grantsBurstImmediately() {
+        val limiter = RateLimiter(SLOW_RATE, 3, 0, scheduler)
+        val permits = (1..4).map { acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "i$it") }
+        assertTrue(permits.take(3).all(CompletableFuture<Void?>::isDone))
+        assertFalse(permits[3].isDone)
+    }
+
+    @Test
+    fun acquire_interactiveBeforeWaitingBackground() {
+        val limiter = RateLimiter(FAST_RATE, 1, 0, scheduler)
+        acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "i0")
+        val permits = listOf(
+            acquire(limiter, RequestPriority.BACKGROUND, game("b"), "b1"),
+            acquire(limiter, RequestPriority.BACKGROUND, game("c"), "b2"),
+            acquire(limiter, RequestPriority.INTERACTIVE, game("d"), "i1")
+        )
+        await(permits)
+        assertEquals(listOf("i0", "i1", "b1", "b2"), granted)
+    }
+
+    @Test
+    fun acquire_backgroundLeavesReserve() {
+        val limiter = RateLimiter(SLOW_RATE, 3, 2, scheduler)
+        val background = (1..3).map {
+            acquire(limiter, RequestPriority.BACKGROUND, game("b$it"), "b$it")
+        }
+        val interactive = (1..2).map {
+            acquire(limiter, RequestPriority.INTERACTIVE, game("i$it"), "i$it")
+        }
+        assertEquals(listOf(true, false, false), background.map(CompletableFuture<Void?>::isDone))
+        assertTrue(interactive.all(CompletableFuture<Void?>::isDone))
+        assertEquals(listOf("b1", "i1", "i2"), granted)
+    }
+
+    @Test
+    fun acquire_roundRobinAcrossGames() {
+        val limiter = RateLimiter(FAST_RATE, 1, 0, scheduler)
+        acquire(limiter, RequestPriority.INTERACTIVE, SHARED_URL, "s0")
+        val permits = listOf(
+            acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "a1"),
+            acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "a2"),
+            acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "a3"),
+            acquire(limiter, RequestPriority.INTERACTIVE, game("b"), "b1")
+        )
+        await(permits)
+        assertEquals(listOf("s0", "a1", "b1", "a2", "a3"), granted)
+    }
+
+    @Test
+    fun acquire_cancelledWaiterSkipped() {
+        val limiter = RateLimiter(FAST_RATE, 1, 0, scheduler)
+        acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "i0")
+        val cancelled = acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "i1")
+        val background = acquire(limiter, RequestPriority.BACKGROUND, game("b"), "b1")
+        val interactive = acquire(limiter, RequestPriority.INTERACTIVE, game("c"), "i2")
+        assertTrue(cancelled.cancel(false))
+        await(listOf(background, interactive))
+        assertEquals(listOf("i0", "i2", "b1"), granted)
+    }
+
+    @Test
+    fun acquire_cancelledBeforeAcquire() {
+        val limiter = RateLimiter(SLOW_RATE, 1, 0, scheduler)
+        val cancelled = CompletableFuture<Void?>().also { it.cancel(false) }
+        limiter.acquire(RequestPriority.INTERACTIVE, game("a"), cancelled)
+        assertTrue(acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "i1").isDone)
+    }
+
+    @Test
+    fun close_rejectsWaitersAndLaterRequests() {
+        val limiter = RateLimiter(SLOW_RATE, 1, 0, scheduler)
+        acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "i0")
+        val waiting = acquire(limiter, RequestPriority.BACKGROUND, game("a"), "b1")
+        limiter.close()
+        val later = acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "i1")
+        listOf(waiting, later).forEach { permit ->
+            val exception = assertFailsWith<ExecutionException> {
+                permit.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+            }
+            assertIs<RejectedExecutionException>(exception.cause)
+        }
+        assertEquals(listOf("i0"), granted)
+    }
+
+    @Test
+    fun throttle_blocksUntilRetryAfter() {
+        val limiter = RateLimiter(FAST_RATE, 1, 0, scheduler)
+        val start = System.nanoTime()
+        limiter.throttle(game("a"), TimeUnit.MILLISECONDS.toNanos(RETRY_AFTER_MILLIS))
+        val permit = acquire(limiter, RequestPriority.INTERACTIVE, game("a"), "i1")
+        assertFalse(permit.isDone)
+        permit.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(RETRY_AFTER_MILLIS))
+    }
+
+    private fun acquire(
+        limiter: RateLimiter,
+        priority: RequestPriority,
+        url: HttpUrl,
+        label: String
+    ): CompletableFuture<Void?> {
+        val permit = CompletableFuture<Void?>()
+        recorded[permit] = permit.thenRun { granted.add(label) }
+        limiter.acquire(priority, url, permit)
+        return permit
+    }
+
+    /**
+     * Waits until each of [permits] has been granted, and its grant recorded.
+     */
+    private fun await(permits: List<CompletableFuture<Void?>>) {
+        CompletableFuture
+            .allOf(*permits.map(recorded::getValue).toTypedArray())
+            .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+    }
+
+    private fun game(id: String): HttpUrl {
+        return "$BASE_URL/games/$id/guesses".toHttpUrl()
+    }
+
+    private companion object {
+        const val BASE_URL = "http://localhost/codebreaker-solitaire"
+        const val SLOW_RATE = 0.1
+        const val FAST_RATE = 50.0
+        const val RETRY_AFTER_MILLIS = 200L
+        const val TIMEOUT_MILLIS = 5_000L
+        val SHARED_URL: HttpUrl = "$BASE_URL/games".toHttpUrl()
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import okhttp3.HttpUrl
+import okhttp3.HttpUrl.Companion.toHttpUrl
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
+import kotlin.test.assertIs
+import kotlin.test.assertTrue
+
+/**
+ * Checks that closing a [RequestGate] settles every request it is holding, whether it is waiting
+ * for a token or held for the next burst, so that shutting down never leaves a call hanging.
+ */
+class RequestGateTest {
+
+    private val scheduler: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor()
+
+    @AfterTest
+    fun tearDown() {
+        scheduler.shutdownNow()
+    }
+
+    @Test
+    fun close_rejectsWaitingAndHeldRequests() {
+        val bursts = BurstScheduler(MAX_DELAY, MAX_SIZE, Duration.ZERO, scheduler)
+        val gate = RequestGate(bursts, RateLimiter(SLOW_RATE, 1, 0, scheduler))
+        val sent = gate.admit(RequestPriority.INTERACTIVE, game("a"))
+        val waiting = gate.admit(RequestPriority.INTERACTIVE, game("b"))
+        val held = gate.admit(RequestPriority.BACKGROUND, game("c"))
+        assertTrue(sent.isDone)
+        assertFalse(waiting.isDone)
+        assertFalse(held.isDone)
+        assertEquals(1, bursts.deferredCount)
+        gate.close()
+        listOf(waiting, held).forEach { permit ->
+            val exception = assertFailsWith<ExecutionException> {
+                permit.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+            }
+            assertIs<RejectedExecutionException>(exception.cause)
+        }
+        assertEquals(0, bursts.deferredCount)
+    }
+
+    @Test
+    fun close_releasesHeldRequestsWithoutLimiter() {
+        val bursts = BurstScheduler(MAX_DELAY, MAX_SIZE, Duration.ZERO, scheduler)
+        val gate = RequestGate(bursts, null)
+        val held = gate.admit(RequestPriority.BACKGROUND, game("a"))
+        assertFalse(held.isDone)
+        gate.close()
+        held.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+    }
+
+    private fun game(id: String): HttpUrl {
+        return "$BASE_URL/games/$id/guesses".toHttpUrl()
+    }
+
+    private companion object {
+        const val BASE_URL = "http://localhost/codebreaker-solitaire"
+        const val SLOW_RATE = 0.1
+        const val MAX_SIZE = 100
+        const val TIMEOUT_MILLIS = 5_000L
+        val MAX_DELAY: Duration = Duration.ofHours(1)
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * Checks that [SpeculativeStarter.close] deletes the prepared game before returning, so that no
+ * deletion is left to run after the service has shut down.
+ */
+class SpeculativeStarterTest {
+
+    private val prepared = CopyOnWriteArrayList<CompletableFuture<Game>>()
+    private val deleted = CopyOnWriteArrayList<String>()
+    private var deletion: (String) -> CompletableFuture<Void?> = { gameId ->
+        deleted.add(gameId)
+        CompletableFuture.completedFuture(null)
+    }
+    private val starter = SpeculativeStarter(
+        { game, _ -> CompletableFuture.completedFuture(game(STARTED_ID, game)) },
+        { _ -> CompletableFuture<Game>().also { prepared.add(it) } },
+        { gameId -> deletion(gameId) }
+    )
+
+    @Test
+    fun close_nothingPrepared() {
+        assertTrue(starter.close(TIMEOUT))
+        assertEquals(listOf(), deleted)
+    }
+
+    @Test
+    fun close_deletesPreparedGame() {
+        starter.startGame(settings(), RequestPriority.INTERACTIVE).join()
+        prepared.single().complete(game(PREPARED_ID, settings()))
+        assertTrue(starter.close(TIMEOUT))
+        assertEquals(listOf(PREPARED_ID), deleted)
+    }
+
+    @Test
+    fun close_waitsForPreparedGameToStart() {
+        starter.startGame(settings(), RequestPriority.INTERACTIVE).join()
+        CompletableFuture.runAsync {
+            Thread.sleep(DELAY_MILLIS)
+            prepared.single().complete(game(PREPARED_ID, settings()))
+        }
+        assertTrue(starter.close(TIMEOUT))
+        assertEquals(listOf(PREPARED_ID), deleted)
+    }
+
+    @Test
+    fun close_preparedGameFailedToStart() {
+        starter.startGame(settings(), RequestPriority.INTERACTIVE).join()
+        prepared.single().completeExceptionally(IllegalStateException())
+        assertTrue(starter.close(TIMEOUT))
+        assertEquals(listOf(), deleted)
+    }
+
+    @Test
+    fun close_preparedGameNotStartedInTime() {
+        starter.startGame(settings(), RequestPriority.INTERACTIVE).join()
+        assertFalse(starter.close(Duration.ofMillis(DELAY_MILLIS)))
+        assertEquals(listOf(), deleted)
+    }
+
+    @Test
+    fun close_deletionFails() {
+        deletion = { CompletableFuture.failedFuture(IllegalStateException()) }
+        starter.startGame(settings(), RequestPriority.INTERACTIVE).join()
+        prepared.single().complete(game(PREPARED_ID, settings()))
+        assertFalse(starter.close(TIMEOUT))
+    }
+
+    @Test
+    fun startGame_afterClose_preparesNothing() {
+        starter.close(TIMEOUT)
+        starter.startGame(settings(), RequestPriority.INTERACTIVE).join()
+        assertEquals(listOf(), prepared)
+    }
+
+    private fun settings(): Game {
+        return Game().pool(POOL).length(CODE_LENGTH)
+    }
+
+    private fun game(id: String, settings: Game): Game {
+        return Game(id, null, false, null, mutableListOf())
+            .pool(settings.pool)
+            .length(settings.length)
+    }
+
+    private companion object {
+        const val STARTED_ID = "started"
+        const val PREPARED_ID = "prepared"
+        const val POOL = "ABCDEF"
+        const val CODE_LENGTH = 4
+        const val DELAY_MILLIS = 100L
+        val TIMEOUT: Duration = Duration.ofSeconds(5)
+    }
+
+}
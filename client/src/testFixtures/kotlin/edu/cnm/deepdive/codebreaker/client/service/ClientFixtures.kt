@@ -0,0 +1,76 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.client.service
+
+import com.google.gson.Gson
+import com.google.gson.TypeAdapter
+import edu.cnm.deepdive.codebreaker.api.model.Game
+import edu.cnm.deepdive.codebreaker.api.model.Guess
+import edu.cnm.deepdive.codebreaker.api.service.CodebreakerApi
+import okhttp3.OkHttpClient
+import retrofit2.Callback
+import java.time.OffsetDateTime
+import java.util.Properties
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Gives benchmarks and tests outside the client module access to the serialization, transport, and
+ * validation helpers that the client uses internally, without widening the client's public API.
+ */
+object ClientFixtures {
+
+    /**
+     * Returns a [Gson] instance configured as the client configures its own.
+     */
+    @JvmStatic
+    fun gson(): Gson = buildGson()
+
+    /**
+     * Returns the adapter the client uses to read and write [OffsetDateTime] values.
+     */
+    @JvmStatic
+    fun offsetDateTimeAdapter(): TypeAdapter<OffsetDateTime?> = OffsetDateTimeAdapter()
+
+    /**
+     * Returns the [CodebreakerApi] implementation selected by the `transport` property in
+     * [properties], sending its requests through [client].
+     */
+    @JvmStatic
+    fun api(properties: Properties, gson: Gson, client: OkHttpClient): CodebreakerApi =
+        buildApi(properties, gson, client)
+
+    /**
+     * Returns the callback the client uses to complete [future] from a Retrofit call, mapping
+     * unsuccessful responses to the client's exceptions.
+     */
+    @JvmStatic
+    fun <T> callback(future: CompletableFuture<T>): Callback<T> = ServiceCallback(future)
+
+    /**
+     * Returns `true` if the pool and code length of [game] are acceptable to the client.
+     */
+    @JvmStatic
+    fun isValidGame(game: Game): Boolean =
+        edu.cnm.deepdive.codebreaker.client.service.isValidGame(game)
+
+    /**
+     * Returns `true` if [guess] is a well-formed guess for [game].
+     */
+    @JvmStatic
+    fun isValidGuess(game: Game, guess: Guess): Boolean =
+        edu.cnm.deepdive.codebreaker.client.service.isValidGuess(game, guess)
+
+}
@@ -15,9 +15,11 @@
  */
 package edu.cnm.deepdive.codebreaker.javafx;
 
+import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
 import edu.cnm.deepdive.codebreaker.javafx.controller.Stoppable;
 import edu.cnm.deepdive.codebreaker.javafx.util.Constants;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ResourceBundle;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -33,6 +35,9 @@ public class Main extends Application {
 
   private static final String WINDOW_TITLE_KEY = "window_title";
   private static final String MAIN_LAYOUT_KEY = "main_layout";
+  private static final String CACHE_DIRECTORY_PROPERTY = "codebreaker.cacheDirectory";
+  private static final String USER_HOME_PROPERTY = "user.home";
+  private static final String[] CACHE_SUBDIRECTORIES = {".codebreaker", "javafx", "http-cache"};
 
   static void main(String[] args) {
     launch(args);
@@ -40,6 +45,16 @@ public class Main extends Application {
 
   private Stoppable controller;
 
+  @Override
+  public void init() throws Exception {
+    super.init();
+    if (System.getProperty(CACHE_DIRECTORY_PROPERTY) == null) {
+      System.setProperty(CACHE_DIRECTORY_PROPERTY,
+          Path.of(System.getProperty(USER_HOME_PROPERTY), CACHE_SUBDIRECTORIES).toString());
+    }
+    CodebreakerService.getInstance().warmUp();
+  }
+
   @Override
   public void start(Stage stage) throws Exception {
     ResourceBundle bundle = ResourceBundle.getBundle(Constants.BUNDLE_BASE_NAME);
@@ -3,6 +3,7 @@ package edu.cnm.deepdive.codebreaker.javafx.viewmodel;
 import edu.cnm.deepdive.codebreaker.api.model.Game;
 import edu.cnm.deepdive.codebreaker.api.model.Guess;
 import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
+import edu.cnm.deepdive.codebreaker.client.service.GameConflictException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -105,19 +106,31 @@ public class GameViewModel {
    */
   public void submitGuess(String text) {
     Guess guess = new Guess().text(text);
+    //noinspection DataFlowIssue
     service
-        .submitGuess(game, guess)
+        .submitGuess(game, guess, game.getGuesses().size())
         .thenApply(this::setGuess)
         .thenAccept((guessResponse) -> {
           if (Boolean.TRUE.equals(guessResponse.getSolution())) {
-            getGame(game.getId());
-          } else {
+            Game solvedGame = guessResponse.getGame();
+            if (solvedGame != null) {
+              setSolved(setGame(solvedGame).getSolved());
+            } else {
+              getGame(game.getId());
+            }
+          } else if (!isRecorded(guessResponse)) {
             //noinspection DataFlowIssue
             game.getGuesses().add(guessResponse);
             setGame(game);
           }
         })
-        .exceptionally(this::logError);
+        .exceptionally((error) -> {
+          if (error.getCause() instanceof GameConflictException) {
+            GameConflictException conflict = (GameConflictException) error.getCause();
+            setSolved(setGame(conflict.applyTo(game)).getSolved());
+          }
+          return logError(error);
+        });
   }
 
   /**
@@ -187,6 +200,14 @@ public class GameViewModel {
     }
   }
 
+  private boolean isRecorded(Guess guess) {
+    //noinspection DataFlowIssue
+    return game
+        .getGuesses()
+        .stream()
+        .anyMatch((recorded) -> recorded.getId().equals(guess.getId()));
+  }
+
   private Game setGame(Game game) {
     this.game = game;
     Platform.runLater(() -> gameObservers
@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.loadgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Weighted mix of game configurations (character pool and code length) from which each simulated
+ * player chooses the game it starts. The mix is specified as a whitespace-separated list of
+ * {@code pool:length:weight} entries; for example, {@code ABCDEF:4:3 0123456789:5:1} starts games
+ * with a pool of 6 letters and code length 4 three times as often as games with a pool of 10
+ * digits and code length 5.
+ */
+class GameMix {
+
+  private static final String ENTRY_SEPARATOR = "\\s+";
+  private static final char FIELD_SEPARATOR = ':';
+
+  private final List<Entry> entries;
+  private final double totalWeight;
+
+  private GameMix(List<Entry> entries) {
+    this.entries = entries;
+    totalWeight = entries
+        .stream()
+        .mapToDouble(Entry::weight)
+        .sum();
+  }
+
+  /**
+   * Parses the specified mix.
+   *
+   * @param spec Whitespace-separated list of {@code pool:length:weight} entries. Since a pool may
+   *             itself contain colons, the length and weight are taken from the end of each entry.
+   * @return The parsed mix.
+   * @throws IllegalArgumentException If {@code spec} is empty or malformed.
+   */
+  static GameMix parse(String spec) {
+    List<Entry> entries = new ArrayList<>();
+    for (String token : spec.trim().split(ENTRY_SEPARATOR)) {
+      int weightStart = token.lastIndexOf(FIELD_SEPARATOR);
+      int lengthStart = token.lastIndexOf(FIELD_SEPARATOR, weightStart - 1);
+      if (lengthStart <= 0) {
+        throw new IllegalArgumentException("Invalid mix entry: " + token);
+      }
+      Entry entry = new Entry(
+          token.substring(0, lengthStart),
+          Integer.parseInt(token.substring(lengthStart + 1, weightStart)),
+          Double.parseDouble(token.substring(weightStart + 1))
+      );
+      if (entry.weight() <= 0) {
+        throw new IllegalArgumentException("Mix weights must be positive: " + token);
+      }
+      entries.add(entry);
+    }
+    return new GameMix(List.copyOf(entries));
+  }
+
+  /**
+   * Chooses an entry at random, with probability proportional to its weight.
+   *
+   * @param rng Source of randomness.
+   * @return The chosen entry.
+   */
+  Entry choose(Random rng) {
+    double remaining = rng.nextDouble() * totalWeight;
+    Entry chosen = entries.getLast();
+    for (Entry entry : entries) {
+      remaining -= entry.weight();
+      if (remaining < 0) {
+        chosen = entry;
+        break;
+      }
+    }
+    return chosen;
+  }
+
+  /**
+   * Single game configuration in a mix.
+   *
+   * @param pool   Character pool of the game.
+   * @param length Code length of the game.
+   * @param weight Relative frequency with which this configuration is chosen.
+   */
+  record Entry(String pool, int length, double weight) {
+
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.loadgen;
+
+import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Strategies by which a simulated player chooses its next guess.
+ */
+enum GuessStrategy {
+
+  /**
+   * Guesses uniformly at random from all codes of the required length, ignoring previous feedback.
+   * Games played with this strategy typically end by reaching the guess limit, so they exercise the
+   * service with long guess histories.
+   */
+  RANDOM {
+    @Override
+    String nextGuess(int[] pool, int length, List<Guess> history, Random rng) {
+      return randomCode(pool, length, rng);
+    }
+  },
+
+  /**
+   * Guesses a code consistent with the feedback to all previous guesses, found by sampling random
+   * codes. This resembles a competent human player, and usually solves a game in a handful of
+   * guesses. If no consistent code is found within a fixed number of samples, a random code is
+   * guessed.
+   */
+  CONSISTENT {
+    @Override
+    String nextGuess(int[] pool, int length, List<Guess> history, Random rng) {
+      String candidate = randomCode(pool, length, rng);
+      for (int i = 1; i < MAX_SAMPLES && !isConsistent(candidate, history); i++) {
+        candidate = randomCode(pool, length, rng);
+      }
+      return candidate;
+    }
+  };
+
+  private static final int MAX_SAMPLES = 10_000;
+
+  /**
+   * Returns the text of the next guess.
+   *
+   * @param pool    Distinct codepoints of the character pool.
+   * @param length  Code length.
+   * @param history Previous guesses in the game, with their feedback.
+   * @param rng     Source of randomness.
+   * @return Text of the next guess.
+   */
+  abstract String nextGuess(int[] pool, int length, List<Guess> history, Random rng);
+
+  private static String randomCode(int[] pool, int length, Random rng) {
+    int[] code = new int[length];
+    for (int i = 0; i < length; i++) {
+      code[i] = pool[rng.nextInt(pool.length)];
+    }
+    return new String(code, 0, length);
+  }
+
+  private static boolean isConsistent(String candidate, List<Guess> history) {
+    int[] candidateCodePoints = candidate.codePoints().toArray();
+    boolean consistent = true;
+    for (Guess guess : history) {
+      int[] guessCodePoints = guess.getText().codePoints().toArray();
+      int exact = 0;
+      int near = 0;
+      boolean[] usedCandidate = new boolean[candidateCodePoints.length];
+      boolean[] usedGuess = new boolean[guessCodePoints.length];
+      for (int i = 0; i < candidateCodePoints.length; i++) {
+        if (candidateCodePoints[i] == guessCodePoints[i]) {
+          exact++;
+          usedCandidate[i] = true;
+          usedGuess[i] = true;
+        }
+      }
+      for (int i = 0; i < guessCodePoints.length; i++) {
+        for (int j = 0; j < candidateCodePoints.length && !usedGuess[i]; j++) {
+          if (!usedCandidate[j] && guessCodePoints[i] == candidateCodePoints[j]) {
+            near++;
+            usedCandidate[j] = true;
+            usedGuess[i] = true;
+          }
+        }
+      }
+      if (exact != guess.getExactMatches() || near != guess.getNearMatches()) {
+        consistent = false;
+        break;
+      }
+    }
+    return consistent;
+  }
+
+}
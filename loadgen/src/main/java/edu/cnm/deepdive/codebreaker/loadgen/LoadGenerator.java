@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.loadgen;
+
+import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
+import edu.cnm.deepdive.codebreaker.server.ReferenceServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command-line load generator for the Codebreaker Solitaire client. Simulated players arrive at a
+ * configured mean rate, each playing a single game through {@link CodebreakerService} on its own
+ * virtual thread; at the end of the run (and optionally at intervals during it), throughput, error
+ * rates, and latency percentiles are reported for each operation.
+ *
+ * <p>The load profile is read from {@code loadgen.properties}. Any property may be overridden by a
+ * system property with the same name, prefixed by {@code codebreaker.loadgen.}, or by a
+ * {@code name=value} command-line argument (for example, {@code arrivalsPerSecond=50}). Client
+ * configuration (such as {@code baseUrl}) is overridden in the usual way, with
+ * {@code codebreaker.}-prefixed system properties.</p>
+ */
+public class LoadGenerator {
+
+  private static final String PROPERTIES_FILE = "loadgen.properties";
+  private static final String SYSTEM_PROPERTY_PREFIX = "codebreaker.loadgen.";
+  private static final String ARGUMENT_SEPARATOR = "=";
+  private static final String SERVER_PORT_KEY = "port";
+  private static final String EPHEMERAL_PORT = "0";
+  private static final String CLIENT_BASE_URL_PROPERTY = "codebreaker.baseUrl";
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private final LoadProfile profile;
+  private final LoadStats stats;
+  private final Random rng;
+
+  /**
+   * Initializes this instance with the specified profile.
+   *
+   * @param profile Parameters of the run.
+   */
+  LoadGenerator(LoadProfile profile) {
+    this.profile = profile;
+    stats = new LoadStats();
+    rng = (profile.seed() != null) ? new Random(profile.seed()) : new Random();
+  }
+
+  /**
+   * Reads the load profile, optionally starts an embedded reference server, runs the load, and
+   * prints the final report.
+   *
+   * @param args {@code name=value} overrides of properties in {@code loadgen.properties}.
+   * @throws IOException          If the embedded server cannot be started.
+   * @throws InterruptedException If interrupted while waiting for players to finish.
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    LoadProfile profile = LoadProfile.from(loadProperties(args));
+    ReferenceServer server = null;
+    if (profile.embeddedServer()) {
+      Properties serverProperties = ReferenceServer.loadProperties();
+      serverProperties.setProperty(SERVER_PORT_KEY, EPHEMERAL_PORT);
+      server = new ReferenceServer(serverProperties);
+      server.start();
+      System.setProperty(CLIENT_BASE_URL_PROPERTY, server.getBaseUrl());
+    }
+    try {
+      new LoadGenerator(profile).run(CodebreakerService.getInstance());
+    } finally {
+      if (server != null) {
+        server.stop();
+      }
+    }
+  }
+
+  /**
+   * Runs the load against the specified service, and prints the final report to standard output.
+   *
+   * @param service Client service through which all calls are made.
+   * @throws InterruptedException If interrupted while waiting for players to finish.
+   */
+  void run(CodebreakerService service) throws InterruptedException {
+    service.warmUp().join();
+    long start = System.nanoTime();
+    ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+    long interval = profile.reportInterval().toMillis();
+    if (interval > 0) {
+      reporter.scheduleAtFixedRate(
+          () -> stats.print(System.out, Duration.ofNanos(System.nanoTime() - start)),
+          interval, interval, TimeUnit.MILLISECONDS);
+    }
+    Semaphore slots = new Semaphore(profile.maxPlayers());
+    try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+      long end = start + profile.duration().toNanos();
+      long nextArrival = start;
+      while ((nextArrival += nextInterarrivalNanos()) < end) {
+        TimeUnit.NANOSECONDS.sleep(nextArrival - System.nanoTime());
+        stats.playerArrived();
+        if (slots.tryAcquire()) {
+          Player player = new Player(service, profile, stats, new Random(rng.nextLong()));
+          players.execute(() -> {
+            try {
+              player.run();
+            } finally {
+              slots.release();
+            }
+          });
+        } else {
+          stats.playerDropped();
+        }
+      }
+      players.shutdown();
+      if (!players.awaitTermination(profile.drain().toMillis(), TimeUnit.MILLISECONDS)) {
+        players.shutdownNow();
+      }
+    } finally {
+      reporter.shutdownNow();
+    }
+    stats.print(System.out, Duration.ofNanos(System.nanoTime() - start));
+    service.shutdown();
+  }
+
+  private long nextInterarrivalNanos() {
+    return Math.round(
+        -Math.log(1 - rng.nextDouble()) / profile.arrivalsPerSecond() * NANOS_PER_SECOND);
+  }
+
+  private static Properties loadProperties(String[] args) {
+    Properties properties = new Properties();
+    try (InputStream input =
+        LoadGenerator.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+      properties.load(input);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    System.getProperties()
+        .stringPropertyNames()
+        .stream()
+        .filter((name) -> name.startsWith(SYSTEM_PROPERTY_PREFIX))
+        .forEach((name) -> properties.setProperty(
+            name.substring(SYSTEM_PROPERTY_PREFIX.length()), System.getProperty(name)));
+    for (String arg : args) {
+      String[] parts = arg.split(ARGUMENT_SEPARATOR, 2);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Expected name=value: " + arg);
+      }
+      properties.setProperty(parts[0].trim(), parts[1]);
+    }
+    return properties;
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.loadgen;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Parameters of a load-generator run, read from {@code loadgen.properties} and any overrides.
+ *
+ * @param duration          Period during which new players arrive.
+ * @param drain             Maximum time to wait, after arrivals stop, for players still in a game.
+ * @param arrivalsPerSecond Mean rate at which new players arrive (as a Poisson process).
+ * @param maxPlayers        Maximum number of concurrent players; arrivals beyond this limit are
+ *                          dropped and counted.
+ * @param mix               Game configurations chosen by arriving players.
+ * @param thinkTimeMillis   Mean (exponentially distributed) pause before each guess.
+ * @param strategy          Strategy by which players choose guesses.
+ * @param maxGuesses        Number of guesses after which a player abandons an unsolved game.
+ * @param deleteRate        Probability that a player deletes its game when finished.
+ * @param seed              Seed for all random choices, or {@code null} for a different sequence
+ *                          on every run.
+ * @param reportInterval    Interval between progress reports, or {@link Duration#ZERO} to report
+ *                          only at the end of the run.
+ * @param embeddedServer    Whether to run against an embedded reference server, instead of the
+ *                          service at the configured {@code baseUrl}.
+ */
+record LoadProfile(
+    Duration duration,
+    Duration drain,
+    double arrivalsPerSecond,
+    int maxPlayers,
+    GameMix mix,
+    double thinkTimeMillis,
+    GuessStrategy strategy,
+    int maxGuesses,
+    double deleteRate,
+    Long seed,
+    Duration reportInterval,
+    boolean embeddedServer
+) {
+
+  private static final String DURATION_SECONDS_KEY = "durationSeconds";
+  private static final String DRAIN_SECONDS_KEY = "drainSeconds";
+  private static final String ARRIVALS_PER_SECOND_KEY = "arrivalsPerSecond";
+  private static final String MAX_PLAYERS_KEY = "maxPlayers";
+  private static final String MIX_KEY = "mix";
+  private static final String THINK_TIME_MILLIS_KEY = "thinkTimeMillis";
+  private static final String STRATEGY_KEY = "strategy";
+  private static final String MAX_GUESSES_KEY = "maxGuesses";
+  private static final String DELETE_RATE_KEY = "deleteRate";
+  private static final String SEED_KEY = "seed";
+  private static final String REPORT_INTERVAL_SECONDS_KEY = "reportIntervalSeconds";
+  private static final String EMBEDDED_SERVER_KEY = "embeddedServer";
+
+  /**
+   * Reads a profile from the specified properties.
+   *
+   * @param properties Properties containing every key in {@code loadgen.properties}.
+   * @return The profile.
+   * @throws IllegalArgumentException If any property is malformed.
+   */
+  static LoadProfile from(Properties properties) {
+    String seed = properties.getProperty(SEED_KEY).trim();
+    return new LoadProfile(
+        Duration.ofSeconds(Long.parseLong(properties.getProperty(DURATION_SECONDS_KEY))),
+        Duration.ofSeconds(Long.parseLong(properties.getProperty(DRAIN_SECONDS_KEY))),
+        Double.parseDouble(properties.getProperty(ARRIVALS_PER_SECOND_KEY)),
+        Integer.parseInt(properties.getProperty(MAX_PLAYERS_KEY)),
+        GameMix.parse(properties.getProperty(MIX_KEY)),
+        Double.parseDouble(properties.getProperty(THINK_TIME_MILLIS_KEY)),
+        GuessStrategy.valueOf(properties.getProperty(STRATEGY_KEY).trim().toUpperCase()),
+        Integer.parseInt(properties.getProperty(MAX_GUESSES_KEY)),
+        Double.parseDouble(properties.getProperty(DELETE_RATE_KEY)),
+        seed.isEmpty() ? null : Long.valueOf(seed),
+        Duration.ofSeconds(Long.parseLong(properties.getProperty(REPORT_INTERVAL_SECONDS_KEY))),
+        Boolean.parseBoolean(properties.getProperty(EMBEDDED_SERVER_KEY))
+    );
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.loadgen;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics for a load-generator run: per-operation latencies and errors, along with counts of
+ * player arrivals and game outcomes. All methods are safe for concurrent use.
+ */
+class LoadStats {
+
+  static final String START_GAME = "startGame";
+  static final String SUBMIT_GUESS = "submitGuess";
+  static final String DELETE_GAME = "deleteGame";
+
+  private static final String HEADER_FORMAT = "%-14s %9s %8s %7s %9s %9s %9s %9s %9s %9s%n";
+  private static final String ROW_FORMAT =
+      "%-14s %9d %8d %7.2f %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n";
+  private static final String ERROR_FORMAT = "  %-30s %9d%n";
+  private static final double MILLIS_PER_SECOND = 1000;
+  private static final double PERCENT = 100;
+
+  private final Map<String, OperationStats> operations;
+  private final LongAdder arrivals;
+  private final LongAdder dropped;
+  private final LongAdder started;
+  private final LongAdder solved;
+  private final LongAdder abandoned;
+  private final LongAdder failed;
+  private final LongAdder guessesToSolve;
+
+  LoadStats() {
+    operations = new LinkedHashMap<>();
+    for (String name : new String[]{START_GAME, SUBMIT_GUESS, DELETE_GAME}) {
+      operations.put(name, new OperationStats());
+    }
+    arrivals = new LongAdder();
+    dropped = new LongAdder();
+    started = new LongAdder();
+    solved = new LongAdder();
+    abandoned = new LongAdder();
+    failed = new LongAdder();
+    guessesToSolve = new LongAdder();
+  }
+
+  OperationStats operation(String name) {
+    return operations.get(name);
+  }
+
+  void playerArrived() {
+    arrivals.increment();
+  }
+
+  void playerDropped() {
+    dropped.increment();
+  }
+
+  void gameStarted() {
+    started.increment();
+  }
+
+  void gameSolved(int guessCount) {
+    solved.increment();
+    guessesToSolve.add(guessCount);
+  }
+
+  void gameAbandoned() {
+    abandoned.increment();
+  }
+
+  void gameFailed() {
+    failed.increment();
+  }
+
+  /**
+   * Prints a report of the statistics recorded so far.
+   *
+   * @param out     Destination of the report.
+   * @param elapsed Time since the start of the run, used to compute throughput.
+   */
+  void print(PrintStream out, Duration elapsed) {
+    double seconds = elapsed.toMillis() / MILLIS_PER_SECOND;
+    long solvedCount = solved.sum();
+    out.printf("Elapsed: %.1f s; arrivals: %d (dropped at player limit: %d)%n",
+        seconds, arrivals.sum(), dropped.sum());
+    out.printf("Games started: %d; solved: %d (mean guesses %.1f); abandoned: %d; failed: %d%n",
+        started.sum(), solvedCount,
+        (solvedCount > 0) ? (double) guessesToSolve.sum() / solvedCount : 0,
+        abandoned.sum(), failed.sum());
+    out.printf(HEADER_FORMAT, "operation", "count", "errors", "err %", "ops/s",
+        "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    operations.forEach((name, operation) -> {
+      OperationStats.Summary summary = operation.summarize();
+      out.printf(ROW_FORMAT, name, summary.successes(), summary.failures(),
+          summary.errorRate() * PERCENT,
+          (seconds > 0) ? summary.successes() / seconds : 0,
+          summary.p50(), summary.p90(), summary.p99(), summary.p999(), summary.max());
+      summary.errors().forEach((type, count) -> out.printf(ERROR_FORMAT, type, count));
+    });
+    out.println();
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.loadgen;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Latency and error statistics for a single client operation. Latencies of successful calls are
+ * kept in full, so that exact percentiles can be reported; this is adequate for the call volumes
+ * of a single load-generator run.
+ */
+class OperationStats {
+
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final double NANOS_PER_MILLI = 1e6;
+
+  private final Map<String, LongAdder> errors;
+
+  private long[] latencies;
+  private int count;
+
+  OperationStats() {
+    errors = new ConcurrentHashMap<>();
+    latencies = new long[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Invokes {@code call}, waits for the returned future to complete, and records the elapsed time
+   * (if the call succeeded) or the type of failure (if it did not).
+   *
+   * @param call Operation to invoke.
+   * @param <T>  Result type of the operation.
+   * @return Result of the operation.
+   * @throws CompletionException If the operation failed.
+   */
+  <T> T time(Supplier<CompletableFuture<T>> call) {
+    long start = System.nanoTime();
+    try {
+      T result = call.get().join();
+      record(System.nanoTime() - start);
+      return result;
+    } catch (CompletionException e) {
+      Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+      errors
+          .computeIfAbsent(cause.getClass().getSimpleName(), (key) -> new LongAdder())
+          .increment();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns a point-in-time summary of the statistics recorded so far.
+   */
+  Summary summarize() {
+    long[] sorted;
+    synchronized (this) {
+      sorted = Arrays.copyOf(latencies, count);
+    }
+    Arrays.sort(sorted);
+    Map<String, Long> errorCounts = new TreeMap<>();
+    errors.forEach((type, adder) -> errorCounts.put(type, adder.sum()));
+    return new Summary(
+        sorted.length,
+        errorCounts.values().stream().mapToLong(Long::longValue).sum(),
+        errorCounts,
+        percentile(sorted, 0.5),
+        percentile(sorted, 0.9),
+        percentile(sorted, 0.99),
+        percentile(sorted, 0.999),
+        percentile(sorted, 1.0)
+    );
+  }
+
+  private synchronized void record(long nanos) {
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, 2 * count);
+    }
+    latencies[count++] = nanos;
+  }
+
+  private static double percentile(long[] sorted, double fraction) {
+    double millis = 0;
+    if (sorted.length > 0) {
+      int rank = (int) Math.ceil(fraction * sorted.length);
+      millis = sorted[Math.max(rank, 1) - 1] / NANOS_PER_MILLI;
+    }
+    return millis;
+  }
+
+  /**
+   * Summary of the statistics for an operation.
+   *
+   * @param successes Number of successful calls.
+   * @param failures  Number of failed calls.
+   * @param errors    Number of failed calls, keyed by the simple name of the exception type.
+   * @param p50       Median latency of successful calls, in milliseconds.
+   * @param p90       90th percentile latency, in milliseconds.
+   * @param p99       99th percentile latency, in milliseconds.
+   * @param p999      99.9th percentile latency, in milliseconds.
+   * @param max       Maximum latency, in milliseconds.
+   */
+  record Summary(
+      long successes, long failures, Map<String, Long> errors,
+      double p50, double p90, double p99, double p999, double max) {
+
+    /**
+     * Returns the fraction of calls that failed, or 0 if no calls were made.
+     */
+    double errorRate() {
+      long calls = successes + failures;
+      return (calls > 0) ? (double) failures / calls : 0;
+    }
+
+  }
+
+}
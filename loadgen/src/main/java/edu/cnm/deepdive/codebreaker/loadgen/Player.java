@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.loadgen;
+
+import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Simulated player, which starts a single game, submits guesses (pausing to "think" before each)
+ * until the game is solved or the guess limit is reached, and then (usually) deletes the game.
+ * All calls are made through {@link CodebreakerService}, and timed by {@link LoadStats}.
+ */
+class Player implements Runnable {
+
+  private final CodebreakerService service;
+  private final LoadProfile profile;
+  private final LoadStats stats;
+  private final Random rng;
+
+  /**
+   * Initializes this instance.
+   *
+   * @param service Client service through which all calls are made.
+   * @param profile Parameters of the run.
+   * @param stats   Statistics to which calls and outcomes are recorded.
+   * @param rng     Source of randomness for this player.
+   */
+  Player(CodebreakerService service, LoadProfile profile, LoadStats stats, Random rng) {
+    this.service = service;
+    this.profile = profile;
+    this.stats = stats;
+    this.rng = rng;
+  }
+
+  @Override
+  public void run() {
+    try {
+      play();
+    } catch (CompletionException e) {
+      stats.gameFailed();
+    } catch (InterruptedException e) {
+      stats.gameAbandoned();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void play() throws InterruptedException {
+    GameMix.Entry entry = profile.mix().choose(rng);
+    Game request = new Game()
+        .pool(entry.pool())
+        .length(entry.length());
+    Game game = stats.operation(LoadStats.START_GAME)
+        .time(() -> service.startGame(request));
+    stats.gameStarted();
+    int[] pool = entry.pool()
+        .codePoints()
+        .distinct()
+        .toArray();
+    List<Guess> history = new ArrayList<>();
+    boolean solved = false;
+    while (!solved && history.size() < profile.maxGuesses()) {
+      think();
+      Guess guess = new Guess()
+          .text(profile.strategy().nextGuess(pool, entry.length(), history, rng));
+      Guess result = stats.operation(LoadStats.SUBMIT_GUESS)
+          .time(() -> service.submitGuess(game, guess));
+      history.add(result);
+      solved = Boolean.TRUE.equals(result.getSolution());
+    }
+    if (solved) {
+      stats.gameSolved(history.size());
+    } else {
+      stats.gameAbandoned();
+    }
+    if (rng.nextDouble() < profile.deleteRate()) {
+      stats.operation(LoadStats.DELETE_GAME)
+          .time(() -> service.deleteGame(game.getId()));
+    }
+  }
+
+  private void think() throws InterruptedException {
+    double mean = profile.thinkTimeMillis();
+    if (mean > 0) {
+      Thread.sleep(Math.round(-mean * Math.log(1 - rng.nextDouble())));
+    }
+  }
+
+}
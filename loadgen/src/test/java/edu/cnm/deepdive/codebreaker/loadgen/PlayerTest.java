@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.loadgen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.client.service.CodebreakerService;
+import edu.cnm.deepdive.codebreaker.server.ReferenceServer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Plays complete games through the client against an embedded reference server, as the load
+ * generator does, and checks that no call fails.
+ */
+class PlayerTest {
+
+  private static final String SERVER_PORT_KEY = "port";
+  private static final String EPHEMERAL_PORT = "0";
+  private static final String CLIENT_BASE_URL_PROPERTY = "codebreaker.baseUrl";
+  private static final String MIX = "ABCDEF:4:1";
+  private static final int MAX_GUESSES = 20;
+  private static final int GAMES = 10;
+  private static final long SEED = 20260101L;
+
+  private static ReferenceServer server;
+  private static CodebreakerService service;
+
+  @BeforeAll
+  static void startServer() throws IOException {
+    Properties properties = ReferenceServer.loadProperties();
+    properties.setProperty(SERVER_PORT_KEY, EPHEMERAL_PORT);
+    server = new ReferenceServer(properties);
+    server.start();
+    System.setProperty(CLIENT_BASE_URL_PROPERTY, server.getBaseUrl());
+    service = CodebreakerService.getInstance();
+  }
+
+  @AfterAll
+  static void stopServer() {
+    service.shutdown();
+    server.stop();
+    System.clearProperty(CLIENT_BASE_URL_PROPERTY);
+  }
+
+  @Test
+  void run_completeGames_noCallFails() {
+    LoadProfile profile = new LoadProfile(Duration.ZERO, Duration.ZERO, 1, 1,
+        GameMix.parse(MIX), 0, GuessStrategy.CONSISTENT, MAX_GUESSES, 1, SEED, Duration.ZERO,
+        true);
+    LoadStats stats = new LoadStats();
+    Random rng = new Random(SEED);
+    for (int i = 0; i < GAMES; i++) {
+      new Player(service, profile, stats, new Random(rng.nextLong())).run();
+    }
+    for (String name :
+        new String[]{LoadStats.START_GAME, LoadStats.SUBMIT_GUESS, LoadStats.DELETE_GAME}) {
+      OperationStats.Summary summary = stats.operation(name).summarize();
+      assertEquals(Map.of(), summary.errors(), name);
+    }
+    assertEquals(GAMES, stats.operation(LoadStats.START_GAME).summarize().successes());
+    assertEquals(GAMES, stats.operation(LoadStats.DELETE_GAME).summarize().successes());
+    // Every game but a lucky one needs several guesses against the same Game instance.
+    assertTrue(stats.operation(LoadStats.SUBMIT_GUESS).summarize().successes() > GAMES);
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+import org.gradle.api.tasks.testing.logging.TestLogEvent
+
+plugins {
+    application
+    jacoco
+}
+
+val javaVersion: String = libs.versions.java.get()
+
+application {
+    mainModule = properties["mainModule"] as String
+    mainClass = properties["mainClass"] as String
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    }
+}
+
+dependencies {
+    implementation(project(":api"))
+    implementation(libs.gson)
+    testImplementation(libs.junit.aggregator)
+    testRuntimeOnly(libs.junit.engine)
+    testRuntimeOnly(libs.junit.platform)
+}
+
+tasks.withType<JavaCompile> {
+    options.release = javaVersion.toInt()
+}
+
+tasks.javadoc {
+    with(options as StandardJavadocDocletOptions) {
+        links("https://docs.oracle.com/en/java/javase/${javaVersion}/docs/api/")
+        links("https://www.javadoc.io/doc/com.google.code.gson/gson/latest/")
+    }
+}
+
+tasks.test {
+    useJUnitPlatform()
+    testLogging {
+        events.addAll(setOf(TestLogEvent.FAILED, TestLogEvent.SKIPPED, TestLogEvent.PASSED))
+    }
+    finalizedBy(tasks.jacocoTestReport)
+}
+
+tasks.jacocoTestReport {
+    dependsOn(tasks.test)
+}
@@ -0,0 +1,377 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.GameDelta;
+import edu.cnm.deepdive.codebreaker.api.model.GamePage;
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus;
+import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Routes requests under the {@code /games} path to a {@link GameStore}, converting request and
+ * response bodies with Gson, and mapping {@link ServiceException}s to JSON error responses.
+ */
+class CodebreakerHandler implements HttpHandler {
+
+  private static final String GET = "GET";
+  private static final String POST = "POST";
+  private static final String DELETE = "DELETE";
+  private static final String PATH_SEPARATOR = "/";
+  private static final String STATUS_SEGMENT = "status";
+  private static final String GUESSES_SEGMENT = "guesses";
+  private static final String QUERY_SEPARATOR = "&";
+  private static final String VALUE_SEPARATOR = "=";
+  private static final String ID_SEPARATOR = ",";
+  private static final String IDS_PARAMETER = "ids";
+  private static final String SOLVED_PARAMETER = "solved";
+  private static final String POOL_PARAMETER = "pool";
+  private static final String LENGTH_PARAMETER = "length";
+  private static final String STARTED_AFTER_PARAMETER = "startedAfter";
+  private static final String STARTED_BEFORE_PARAMETER = "startedBefore";
+  private static final String CURSOR_PARAMETER = "cursor";
+  private static final String LIMIT_PARAMETER = "limit";
+  private static final String CONTENT_TYPE_HEADER = "Content-Type";
+  private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+  private static final String ALLOW_HEADER = "Allow";
+  private static final String ETAG_HEADER = "ETag";
+  private static final String IF_MATCH_HEADER = "If-Match";
+  private static final String SERVER_TIMING_HEADER = "Server-Timing";
+  private static final String SERVER_TIMING_FORMAT = "app;dur=%.3f";
+  private static final String START_ATTRIBUTE = "codebreaker.start";
+  private static final String ANY_ENTITY_TAG = "*";
+  private static final String ENTITY_TAG_QUOTE = "\"";
+  private static final String JSON_CONTENT_TYPE = "application/json";
+  private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+  private static final String NO_CACHE = "no-cache";
+  private static final int OK = 200;
+  private static final int CREATED = 201;
+  private static final int NO_CONTENT = 204;
+  private static final int INTERNAL_SERVER_ERROR = 500;
+  private static final long NO_BODY = -1;
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final GameStore store;
+  private final Gson gson;
+  private final String contextPath;
+  private final int defaultPageSize;
+  private final int maxPageSize;
+
+  /**
+   * Initializes this instance.
+   *
+   * @param store           Store of games.
+   * @param gson            Gson instance used to read and write request and response bodies.
+   * @param contextPath     Path (including the base path of the server) at which this handler is
+   *                        registered.
+   * @param defaultPageSize Number of games in a listing page, if not specified by the client.
+   * @param maxPageSize     Maximum number of games a client may request in a listing page.
+   */
+  CodebreakerHandler(
+      GameStore store, Gson gson, String contextPath, int defaultPageSize, int maxPageSize) {
+    this.store = store;
+    this.gson = gson;
+    this.contextPath = contextPath;
+    this.defaultPageSize = defaultPageSize;
+    this.maxPageSize = maxPageSize;
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      exchange.setAttribute(START_ATTRIBUTE, System.nanoTime());
+      try {
+        route(exchange);
+      } catch (ServiceException e) {
+        Object body = e.getBody();
+        if (body instanceof GameDelta delta) {
+          setEntityTag(exchange, delta.getVersion());
+        }
+        if (body != null) {
+          send(exchange, e.getStatus(), body, null);
+        } else {
+          sendError(exchange, e.getStatus(), e.getMessage());
+        }
+      } catch (JsonParseException | NumberFormatException | DateTimeParseException e) {
+        sendError(exchange, ServiceException.BAD_REQUEST, "Malformed request.");
+      } catch (RuntimeException e) {
+        sendError(exchange, INTERNAL_SERVER_ERROR, e.toString());
+      }
+    }
+  }
+
+  private void route(HttpExchange exchange) throws IOException {
+    String method = exchange.getRequestMethod();
+    String path = exchange.getRequestURI().getRawPath().substring(contextPath.length());
+    if (!path.isEmpty() && !path.startsWith(PATH_SEPARATOR)) {
+      throw notFound();
+    }
+    String[] segments = Arrays.stream(path.split(PATH_SEPARATOR))
+        .filter((segment) -> !segment.isEmpty())
+        .map(CodebreakerHandler::decode)
+        .toArray(String[]::new);
+    Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+    switch (segments.length) {
+      case 0 -> {
+        switch (method) {
+          case GET -> getGames(exchange, query);
+          case POST -> {
+            Game game = store.start(read(exchange, Game.class));
+            setEntityTag(exchange, game.getGuesses().size());
+            send(exchange, CREATED, game, null);
+          }
+          case DELETE -> deleteGames(exchange, query);
+          default -> throw methodNotAllowed(exchange, GET, POST, DELETE);
+        }
+      }
+      case 1 -> {
+        switch (method) {
+          case GET -> {
+            Game game = store.get(segments[0]);
+            setEntityTag(exchange, game.getGuesses().size());
+            send(exchange, OK, game, cacheControl(game.getSolved()));
+          }
+          case DELETE -> {
+            store.delete(segments[0]);
+            send(exchange, NO_CONTENT, null, null);
+          }
+          default -> throw methodNotAllowed(exchange, GET, DELETE);
+        }
+      }
+      case 2 -> {
+        if (STATUS_SEGMENT.equals(segments[1])) {
+          requireMethod(exchange, GET);
+          GameStatus status = store.getStatus(segments[0]);
+          setEntityTag(exchange, status.getGuessCount());
+          send(exchange, OK, status, cacheControl(status.getSolved()));
+        } else if (GUESSES_SEGMENT.equals(segments[1])) {
+          requireMethod(exchange, POST);
+          Guess guess = store.submitGuess(
+              segments[0], read(exchange, Guess.class), parseIfMatch(exchange));
+          send(exchange, CREATED, guess, null);
+        } else {
+          throw notFound();
+        }
+      }
+      case 3 -> {
+        if (!GUESSES_SEGMENT.equals(segments[1])) {
+          throw notFound();
+        }
+        requireMethod(exchange, GET);
+        send(exchange, OK, store.getGuess(segments[0], segments[2]), IMMUTABLE);
+      }
+      default -> throw notFound();
+    }
+  }
+
+  private void getGames(HttpExchange exchange, Map<String, String> query) throws IOException {
+    Predicate<StoredGame> filter = buildFilter(query);
+    String ids = query.get(IDS_PARAMETER);
+    GamePage page;
+    if (ids != null) {
+      page = store.get(splitIds(ids), filter);
+    } else {
+      int limit = query.containsKey(LIMIT_PARAMETER)
+          ? Integer.parseInt(query.get(LIMIT_PARAMETER))
+          : defaultPageSize;
+      if (limit < 1 || limit > maxPageSize) {
+        throw new ServiceException(ServiceException.BAD_REQUEST, "Invalid limit.");
+      }
+      page = store.list(filter, query.get(CURSOR_PARAMETER), limit);
+    }
+    send(exchange, OK, page, NO_CACHE);
+  }
+
+  private void deleteGames(HttpExchange exchange, Map<String, String> query) throws IOException {
+    String ids = query.get(IDS_PARAMETER);
+    if (ids == null && !query.containsKey(SOLVED_PARAMETER)) {
+      throw new ServiceException(ServiceException.BAD_REQUEST, "No filter specified.");
+    }
+    store.delete((ids != null) ? splitIds(ids) : null, buildFilter(query));
+    send(exchange, NO_CONTENT, null, null);
+  }
+
+  private Predicate<StoredGame> buildFilter(Map<String, String> query) {
+    Predicate<StoredGame> filter = (game) -> true;
+    String solved = query.get(SOLVED_PARAMETER);
+    if (solved != null) {
+      boolean value = Boolean.parseBoolean(solved);
+      filter = filter.and((game) -> game.isSolved() == value);
+    }
+    String pool = query.get(POOL_PARAMETER);
+    if (pool != null) {
+      filter = filter.and((game) -> game.getPool().equals(pool));
+    }
+    String length = query.get(LENGTH_PARAMETER);
+    if (length != null) {
+      int value = Integer.parseInt(length);
+      filter = filter.and((game) -> game.getLength() == value);
+    }
+    String startedAfter = query.get(STARTED_AFTER_PARAMETER);
+    if (startedAfter != null) {
+      OffsetDateTime value = OffsetDateTime.parse(startedAfter);
+      filter = filter.and((game) -> !game.getCreated().isBefore(value));
+    }
+    String startedBefore = query.get(STARTED_BEFORE_PARAMETER);
+    if (startedBefore != null) {
+      OffsetDateTime value = OffsetDateTime.parse(startedBefore);
+      filter = filter.and((game) -> game.getCreated().isBefore(value));
+    }
+    return filter;
+  }
+
+  private <T> T read(HttpExchange exchange, Class<T> type) throws IOException {
+    try (InputStream input = exchange.getRequestBody()) {
+      T body = gson.fromJson(new String(input.readAllBytes(), StandardCharsets.UTF_8), type);
+      if (body == null) {
+        throw new ServiceException(ServiceException.BAD_REQUEST, "Request body required.");
+      }
+      return body;
+    }
+  }
+
+  private void send(HttpExchange exchange, int status, Object body, String cacheControl)
+      throws IOException {
+    Headers headers = exchange.getResponseHeaders();
+    if (cacheControl != null) {
+      headers.set(CACHE_CONTROL_HEADER, cacheControl);
+    }
+    if (body != null) {
+      byte[] bytes = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+      headers.set(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE);
+      setServerTiming(exchange);
+      exchange.sendResponseHeaders(status, bytes.length);
+      try (OutputStream output = exchange.getResponseBody()) {
+        output.write(bytes);
+      }
+    } else {
+      setServerTiming(exchange);
+      exchange.sendResponseHeaders(status, NO_BODY);
+    }
+  }
+
+  private static void setServerTiming(HttpExchange exchange) {
+    if (exchange.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+      double elapsed = (System.nanoTime() - start) / NANOS_PER_MILLI;
+      exchange.getResponseHeaders()
+          .set(SERVER_TIMING_HEADER, String.format(Locale.ROOT, SERVER_TIMING_FORMAT, elapsed));
+    }
+  }
+
+  private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+    JsonObject error = new JsonObject();
+    error.addProperty("timestamp", OffsetDateTime.now(ZoneOffset.UTC).toString());
+    error.addProperty("status", status);
+    error.addProperty("error", reasonPhrase(status));
+    error.addProperty("message", message);
+    error.addProperty("path", exchange.getRequestURI().getRawPath());
+    send(exchange, status, error, null);
+  }
+
+  private static void setEntityTag(HttpExchange exchange, int version) {
+    exchange.getResponseHeaders()
+        .set(ETAG_HEADER, ENTITY_TAG_QUOTE + version + ENTITY_TAG_QUOTE);
+  }
+
+  private static Integer parseIfMatch(HttpExchange exchange) {
+    String value = exchange.getRequestHeaders().getFirst(IF_MATCH_HEADER);
+    Integer version = null;
+    if (value != null && !value.isBlank() && !value.trim().equals(ANY_ENTITY_TAG)) {
+      String tag = value.trim();
+      if (tag.length() < 2
+          || !tag.startsWith(ENTITY_TAG_QUOTE) || !tag.endsWith(ENTITY_TAG_QUOTE)) {
+        throw new ServiceException(ServiceException.BAD_REQUEST, "Malformed If-Match header.");
+      }
+      version = Integer.parseInt(tag.substring(1, tag.length() - 1));
+    }
+    return version;
+  }
+
+  private void requireMethod(HttpExchange exchange, String allowed) {
+    if (!exchange.getRequestMethod().equals(allowed)) {
+      throw methodNotAllowed(exchange, allowed);
+    }
+  }
+
+  private static ServiceException methodNotAllowed(HttpExchange exchange, String... allowed) {
+    exchange.getResponseHeaders().set(ALLOW_HEADER, String.join(", ", allowed));
+    return new ServiceException(ServiceException.METHOD_NOT_ALLOWED, "Method not allowed.");
+  }
+
+  private static String cacheControl(Boolean solved) {
+    return Boolean.TRUE.equals(solved) ? IMMUTABLE : NO_CACHE;
+  }
+
+  private static ServiceException notFound() {
+    return new ServiceException(ServiceException.NOT_FOUND, "Resource not found.");
+  }
+
+  private static String reasonPhrase(int status) {
+    return switch (status) {
+      case ServiceException.BAD_REQUEST -> "Bad Request";
+      case ServiceException.NOT_FOUND -> "Not Found";
+      case ServiceException.METHOD_NOT_ALLOWED -> "Method Not Allowed";
+      case ServiceException.CONFLICT -> "Conflict";
+      case ServiceException.PRECONDITION_FAILED -> "Precondition Failed";
+      default -> "Internal Server Error";
+    };
+  }
+
+  private static List<String> splitIds(String ids) {
+    return Arrays.stream(ids.split(ID_SEPARATOR))
+        .map(String::trim)
+        .filter((id) -> !id.isEmpty())
+        .toList();
+  }
+
+  private static Map<String, String> parseQuery(String rawQuery) {
+    Map<String, String> query = new HashMap<>();
+    if (rawQuery != null) {
+      for (String pair : rawQuery.split(QUERY_SEPARATOR)) {
+        if (!pair.isEmpty()) {
+          String[] parts = pair.split(VALUE_SEPARATOR, 2);
+          query.put(decode(parts[0]), (parts.length > 1) ? decode(parts[1]) : "");
+        }
+      }
+    }
+    return query;
+  }
+
+  private static String decode(String value) {
+    return URLDecoder.decode(value, StandardCharsets.UTF_8);
+  }
+
+}
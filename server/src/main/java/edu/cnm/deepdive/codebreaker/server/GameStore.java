@@ -0,0 +1,338 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.server;
+
+import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.GamePage;
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus;
+import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory store of games. Games are held in a hash map (for retrieval by ID) and in a skip list
+ * ordered most recently started first (for keyset-paginated listing). Changes to a single game are
+ * serialized by a lock chosen from a fixed set of stripes by the hash of the game ID, so that
+ * requests for different games rarely contend with each other.
+ */
+class GameStore {
+
+  private static final int MIN_CODE_LENGTH = 1;
+  private static final int MAX_CODE_LENGTH = 20;
+  private static final int MIN_POOL_LENGTH = 1;
+  private static final int MAX_POOL_LENGTH = 255;
+  private static final String CURSOR_SEPARATOR = " ";
+  private static final Comparator<GameKey> MOST_RECENT_FIRST = Comparator
+      .comparing(GameKey::created)
+      .thenComparing(GameKey::id)
+      .reversed();
+
+  private final Map<String, StoredGame> games;
+  private final NavigableMap<GameKey, StoredGame> chronology;
+  private final Lock[] stripes;
+
+  /**
+   * Initializes this instance with the specified number of lock stripes.
+   *
+   * @param lockStripes Number of locks among which games are distributed.
+   */
+  GameStore(int lockStripes) {
+    games = new ConcurrentHashMap<>();
+    chronology = new ConcurrentSkipListMap<>(MOST_RECENT_FIRST);
+    stripes = new Lock[lockStripes];
+    for (int i = 0; i < lockStripes; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * Validates the pool and length of the specified game, generates a secret code, and stores the
+   * new game.
+   *
+   * @param request Game containing the pool and code length.
+   * @return Representation of the started game.
+   * @throws ServiceException If the pool or length is invalid.
+   */
+  Game start(Game request) {
+    String pool = request.getPool();
+    Integer length = request.getLength();
+    if (pool == null || length == null
+        || length < MIN_CODE_LENGTH || length > MAX_CODE_LENGTH
+        || pool.length() < MIN_POOL_LENGTH || pool.length() > MAX_POOL_LENGTH
+        || !pool.codePoints().allMatch(GameStore::isValidPoolCodePoint)) {
+      throw new ServiceException(
+          ServiceException.BAD_REQUEST, "Invalid code length or character pool.");
+    }
+    Set<Integer> poolCodePoints = pool
+        .codePoints()
+        .boxed()
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    int[] distinct = poolCodePoints
+        .stream()
+        .mapToInt(Integer::intValue)
+        .toArray();
+    ThreadLocalRandom rng = ThreadLocalRandom.current();
+    int[] code = new int[length];
+    for (int i = 0; i < length; i++) {
+      code[i] = distinct[rng.nextInt(distinct.length)];
+    }
+    StoredGame game = new StoredGame(newId(), now(), pool, Set.copyOf(poolCodePoints), code);
+    games.put(game.getId(), game);
+    chronology.put(keyOf(game), game);
+    return withLock(game, StoredGame::toGame);
+  }
+
+  /**
+   * Returns the full representation of the specified game.
+   *
+   * @throws ServiceException If there is no such game.
+   */
+  Game get(String gameId) {
+    return withLock(find(gameId), StoredGame::toGame);
+  }
+
+  /**
+   * Returns the status representation of the specified game.
+   *
+   * @throws ServiceException If there is no such game.
+   */
+  GameStatus getStatus(String gameId) {
+    return withLock(find(gameId), StoredGame::toStatus);
+  }
+
+  /**
+   * Returns, in a single page, the games with the specified IDs that also satisfy
+   * {@code filter}. IDs that do not identify a stored game are ignored.
+   */
+  GamePage get(Collection<String> gameIds, Predicate<StoredGame> filter) {
+    List<Game> page = gameIds
+        .stream()
+        .distinct()
+        .map(games::get)
+        .filter((game) -> game != null && filter.test(game))
+        .sorted(Comparator.comparing(GameStore::keyOf, MOST_RECENT_FIRST))
+        .map((game) -> withLock(game, StoredGame::toGame))
+        .toList();
+    return new GamePage().games(new ArrayList<>(page));
+  }
+
+  /**
+   * Returns a page of at most {@code limit} games satisfying {@code filter}, most recently started
+   * first, starting after the game identified by {@code cursor} (or from the most recent game, if
+   * {@code cursor} is {@code null}).
+   *
+   * @throws ServiceException If {@code cursor} is malformed.
+   */
+  GamePage list(Predicate<StoredGame> filter, String cursor, int limit) {
+    NavigableMap<GameKey, StoredGame> remaining =
+        (cursor != null) ? chronology.tailMap(decodeCursor(cursor), false) : chronology;
+    List<Game> page = new ArrayList<>(limit);
+    StoredGame last = null;
+    String nextCursor = null;
+    Iterator<StoredGame> iterator = remaining.values().iterator();
+    while (iterator.hasNext() && nextCursor == null) {
+      StoredGame game = iterator.next();
+      if (filter.test(game)) {
+        if (page.size() < limit) {
+          page.add(withLock(game, StoredGame::toGame));
+          last = game;
+        } else {
+          nextCursor = encodeCursor(keyOf(last));
+        }
+      }
+    }
+    return new GamePage()
+        .games(page)
+        .nextCursor(nextCursor);
+  }
+
+  /**
+   * Deletes the specified game.
+   *
+   * @throws ServiceException If there is no such game.
+   */
+  void delete(String gameId) {
+    if (!remove(find(gameId))) {
+      throw notFound();
+    }
+  }
+
+  /**
+   * Deletes the games with the specified IDs (or all games, if {@code gameIds} is {@code null})
+   * that also satisfy {@code filter}.
+   */
+  void delete(Collection<String> gameIds, Predicate<StoredGame> filter) {
+    Collection<StoredGame> candidates = (gameIds != null)
+        ? gameIds.stream().map(games::get).filter((game) -> game != null).toList()
+        : List.copyOf(games.values());
+    candidates
+        .stream()
+        .filter(filter)
+        .forEach(this::remove);
+  }
+
+  /**
+   * Scores and records a guess in the specified game.
+   *
+   * @param gameId          Unique identifier of the game.
+   * @param request         Guess submitted by the client.
+   * @param expectedVersion Version of the game on which the guess is based, or {@code null} to
+   *                        accept the guess regardless of the current version.
+   * @return The scored guess; if it is the solution, the solved game is included in
+   * {@link Guess#getGame()}.
+   * @throws ServiceException If there is no such game, the game is not at
+   *                          {@code expectedVersion} (in which case the exception carries the
+   *                          changes since that version), the game has already been solved, or the
+   *                          guess is invalid.
+   */
+  Guess submitGuess(String gameId, Guess request, Integer expectedVersion) {
+    String text = request.getText();
+    if (text == null) {
+      throw new ServiceException(ServiceException.BAD_REQUEST, "Guess text must be specified.");
+    }
+    StoredGame game = find(gameId);
+    return withLock(game, (locked) -> {
+      if (games.get(gameId) != locked) {
+        throw notFound();
+      }
+      if (expectedVersion != null && expectedVersion != locked.getVersion()) {
+        throw new ServiceException(ServiceException.PRECONDITION_FAILED, "Game has changed.",
+            locked.toDelta(expectedVersion));
+      }
+      Guess guess = locked.addGuess(newId(), now(), text);
+      return guess.getSolution()
+          ? copyOf(guess).game(locked.toGame())
+          : guess;
+    });
+  }
+
+  /**
+   * Returns the specified guess.
+   *
+   * @throws ServiceException If there is no such game or guess.
+   */
+  Guess getGuess(String gameId, String guessId) {
+    Guess guess = withLock(find(gameId), (game) -> game.getGuess(guessId));
+    if (guess == null) {
+      throw notFound();
+    }
+    return guess;
+  }
+
+  private StoredGame find(String gameId) {
+    StoredGame game = games.get(gameId);
+    if (game == null) {
+      throw notFound();
+    }
+    return game;
+  }
+
+  private boolean remove(StoredGame game) {
+    return withLock(game, (locked) -> {
+      boolean removed = games.remove(locked.getId(), locked);
+      if (removed) {
+        chronology.remove(keyOf(locked));
+      }
+      return removed;
+    });
+  }
+
+  private <T> T withLock(StoredGame game, Function<StoredGame, T> action) {
+    Lock lock = stripes[Math.floorMod(game.getId().hashCode(), stripes.length)];
+    lock.lock();
+    try {
+      return action.apply(game);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static Guess copyOf(Guess guess) {
+    return new Guess(
+        guess.getId(), guess.getCreated(), guess.getExactMatches(), guess.getNearMatches(),
+        guess.getSolution())
+        .text(guess.getText());
+  }
+
+  private static boolean isValidPoolCodePoint(int codePoint) {
+    return Character.isDefined(codePoint)
+        && !Character.isWhitespace(codePoint)
+        && !Character.isISOControl(codePoint);
+  }
+
+  private static ServiceException notFound() {
+    return new ServiceException(ServiceException.NOT_FOUND, "Game or guess not found.");
+  }
+
+  private static String newId() {
+    return UUID.randomUUID().toString();
+  }
+
+  private static OffsetDateTime now() {
+    return OffsetDateTime.now(ZoneOffset.UTC);
+  }
+
+  private static GameKey keyOf(StoredGame game) {
+    return new GameKey(game.getCreated(), game.getId());
+  }
+
+  private static String encodeCursor(GameKey key) {
+    String raw = key.created() + CURSOR_SEPARATOR + key.id();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static GameKey decodeCursor(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(CURSOR_SEPARATOR, 2);
+      return new GameKey(OffsetDateTime.parse(parts[0]), parts[1]);
+    } catch (IllegalArgumentException | DateTimeParseException
+             | ArrayIndexOutOfBoundsException e) {
+      throw new ServiceException(ServiceException.BAD_REQUEST, "Invalid cursor.");
+    }
+  }
+
+  /**
+   * Position of a game in the listing order.
+   */
+  private record GameKey(OffsetDateTime created, String id) {
+
+  }
+
+}
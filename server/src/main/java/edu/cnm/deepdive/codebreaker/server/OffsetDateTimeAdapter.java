@@ -0,0 +1,52 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.server;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+/**
+ * Reads and writes {@link OffsetDateTime} values in ISO-8601 format, as used by the Codebreaker
+ * Solitaire API.
+ */
+class OffsetDateTimeAdapter extends TypeAdapter<OffsetDateTime> {
+
+  @Override
+  public void write(JsonWriter writer, OffsetDateTime value) throws IOException {
+    if (value != null) {
+      writer.value(value.toString());
+    } else {
+      writer.nullValue();
+    }
+  }
+
+  @Override
+  public OffsetDateTime read(JsonReader reader) throws IOException {
+    OffsetDateTime value;
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      value = null;
+    } else {
+      value = OffsetDateTime.parse(reader.nextString());
+    }
+    return value;
+  }
+
+}
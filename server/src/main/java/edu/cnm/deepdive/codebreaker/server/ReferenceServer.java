@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.server;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.OffsetDateTime;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Lightweight HTTP server implementing the Codebreaker Solitaire API against an in-memory store.
+ * Each request is handled on its own virtual thread. The server is configured from
+ * {@code server.properties}; any property in that file may be overridden by a system property with
+ * the same name, prefixed by {@code codebreaker.server.} (for example,
+ * {@code -Dcodebreaker.server.port=9090}).
+ */
+public class ReferenceServer {
+
+  private static final String PROPERTIES_FILE = "server.properties";
+  private static final String SYSTEM_PROPERTY_PREFIX = "codebreaker.server.";
+  private static final String PORT_KEY = "port";
+  private static final String BASE_PATH_KEY = "basePath";
+  private static final String BACKLOG_KEY = "backlog";
+  private static final String LOCK_STRIPES_KEY = "lockStripes";
+  private static final String DEFAULT_PAGE_SIZE_KEY = "defaultPageSize";
+  private static final String MAX_PAGE_SIZE_KEY = "maxPageSize";
+  private static final String GAMES_PATH = "/games";
+  private static final String BASE_URL_FORMAT = "http://localhost:%d%s/";
+  private static final int STOP_DELAY_SECONDS = 0;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final String basePath;
+
+  /**
+   * Initializes this instance with properties read from {@code server.properties}, overridden by
+   * any corresponding system properties. The server is bound to its port, but does not accept
+   * requests until {@link #start()} is invoked.
+   *
+   * @throws IOException If the server cannot be bound to the configured port.
+   */
+  public ReferenceServer() throws IOException {
+    this(loadProperties());
+  }
+
+  /**
+   * Initializes this instance with the specified properties. The server is bound to its port, but
+   * does not accept requests until {@link #start()} is invoked.
+   *
+   * @param properties Server configuration; must contain every key in {@code server.properties}.
+   * @throws IOException If the server cannot be bound to the configured port.
+   */
+  public ReferenceServer(Properties properties) throws IOException {
+    basePath = properties.getProperty(BASE_PATH_KEY);
+    Gson gson = new GsonBuilder()
+        .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())
+        .create();
+    GameStore store = new GameStore(Integer.parseInt(properties.getProperty(LOCK_STRIPES_KEY)));
+    String contextPath = basePath + GAMES_PATH;
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    server = HttpServer.create(
+        new InetSocketAddress(Integer.parseInt(properties.getProperty(PORT_KEY))),
+        Integer.parseInt(properties.getProperty(BACKLOG_KEY))
+    );
+    server.setExecutor(executor);
+    server.createContext(contextPath, new CodebreakerHandler(
+        store, gson, contextPath,
+        Integer.parseInt(properties.getProperty(DEFAULT_PAGE_SIZE_KEY)),
+        Integer.parseInt(properties.getProperty(MAX_PAGE_SIZE_KEY))
+    ));
+  }
+
+  /**
+   * Starts the server on a new instance configured from {@code server.properties}, and stops it
+   * when the JVM shuts down.
+   *
+   * @param args Ignored.
+   * @throws IOException If the server cannot be bound to the configured port.
+   */
+  public static void main(String[] args) throws IOException {
+    ReferenceServer server = new ReferenceServer();
+    Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+    server.start();
+    System.out.println(server.getBaseUrl());
+  }
+
+  /**
+   * Reads {@code server.properties} and applies any system property overrides.
+   *
+   * @return Server configuration.
+   */
+  public static Properties loadProperties() {
+    Properties properties = new Properties();
+    try (InputStream input =
+        ReferenceServer.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+      properties.load(input);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    System.getProperties()
+        .stringPropertyNames()
+        .stream()
+        .filter((name) -> name.startsWith(SYSTEM_PROPERTY_PREFIX))
+        .forEach((name) -> properties.setProperty(
+            name.substring(SYSTEM_PROPERTY_PREFIX.length()), System.getProperty(name)));
+    return properties;
+  }
+
+  /**
+   * Starts accepting requests.
+   */
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * Stops accepting requests, closes open connections, and shuts down the request executor.
+   */
+  public void stop() {
+    server.stop(STOP_DELAY_SECONDS);
+    executor.shutdown();
+  }
+
+  /**
+   * Returns the port on which the server is listening. This is useful when the server has been
+   * configured with port 0, so that the port is chosen by the system.
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Returns the base URL of the API on this server, in the form expected by the {@code baseUrl}
+   * property of the client.
+   */
+  public String getBaseUrl() {
+    return String.format(BASE_URL_FORMAT, getPort(), basePath);
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.server;
+
+/**
+ * Exception thrown while processing a request, carrying the HTTP status code of the error response
+ * that should be returned to the client.
+ */
+class ServiceException extends RuntimeException {
+
+  static final int BAD_REQUEST = 400;
+  static final int NOT_FOUND = 404;
+  static final int METHOD_NOT_ALLOWED = 405;
+  static final int CONFLICT = 409;
+  static final int PRECONDITION_FAILED = 412;
+
+  private final int status;
+  private final Object body;
+
+  /**
+   * Initializes this instance with the specified status code and detail message.
+   *
+   * @param status  HTTP status code of the error response.
+   * @param message The detail message.
+   */
+  ServiceException(int status, String message) {
+    this(status, message, null);
+  }
+
+  /**
+   * Initializes this instance with the specified status code, detail message, and response body.
+   *
+   * @param status  HTTP status code of the error response.
+   * @param message The detail message.
+   * @param body    Body of the error response, sent in place of the standard error
+   *                representation; if {@code null}, the standard representation is sent.
+   */
+  ServiceException(int status, String message, Object body) {
+    super(message);
+    this.status = status;
+    this.body = body;
+  }
+
+  /**
+   * Returns the HTTP status code of the error response.
+   */
+  int getStatus() {
+    return status;
+  }
+
+  /**
+   * Returns the body of the error response, or {@code null} if the standard error representation
+   * should be sent.
+   */
+  Object getBody() {
+    return body;
+  }
+
+}
@@ -0,0 +1,192 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.server;
+
+import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.GameDelta;
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus;
+import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Server-side state of a single game. The scalar properties are immutable; the guess history and
+ * solved flag change as guesses are submitted, and must only be read or modified while holding the
+ * lock that {@link GameStore} assigns to the game. Representations returned to clients are
+ * snapshots, built by {@link #toGame()} and {@link #toStatus()} under that lock.
+ */
+class StoredGame {
+
+  private final String id;
+  private final OffsetDateTime created;
+  private final String pool;
+  private final int length;
+  private final Set<Integer> poolCodePoints;
+  private final int[] code;
+  private final List<Guess> guesses;
+  private final Map<String, Guess> guessesById;
+
+  private volatile boolean solved;
+
+  /**
+   * Initializes this instance with the specified properties and secret code.
+   *
+   * @param id             Unique identifier of the game.
+   * @param created        Timestamp of game start.
+   * @param pool           Pool of available characters, as submitted by the client.
+   * @param poolCodePoints Distinct codepoints of {@code pool}.
+   * @param code           Codepoints of the secret code.
+   */
+  StoredGame(
+      String id, OffsetDateTime created, String pool, Set<Integer> poolCodePoints, int[] code) {
+    this.id = id;
+    this.created = created;
+    this.pool = pool;
+    this.length = code.length;
+    this.poolCodePoints = poolCodePoints;
+    this.code = code;
+    guesses = new ArrayList<>();
+    guessesById = new HashMap<>();
+  }
+
+  String getId() {
+    return id;
+  }
+
+  OffsetDateTime getCreated() {
+    return created;
+  }
+
+  String getPool() {
+    return pool;
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  boolean isSolved() {
+    return solved;
+  }
+
+  /**
+   * Returns the version of this game: the number of guesses processed since its start.
+   */
+  int getVersion() {
+    return guesses.size();
+  }
+
+  /**
+   * Scores the specified guess text against the secret code, and appends the resulting guess to
+   * the history of this game.
+   *
+   * @param guessId Unique identifier for the new guess.
+   * @param created Timestamp of guess submission.
+   * @param text    Text of the guess.
+   * @return The scored guess.
+   * @throws ServiceException If this game has already been solved, or {@code text} is not a valid
+   *                          guess for this game.
+   */
+  Guess addGuess(String guessId, OffsetDateTime created, String text) {
+    if (solved) {
+      throw new ServiceException(ServiceException.CONFLICT, "Game already solved.");
+    }
+    int[] guessCodePoints = text.codePoints().toArray();
+    if (guessCodePoints.length != length) {
+      throw new ServiceException(
+          ServiceException.BAD_REQUEST, "Guess length must match code length.");
+    }
+    int exactMatches = 0;
+    Map<Integer, Integer> unmatchedCode = new HashMap<>();
+    Map<Integer, Integer> unmatchedGuess = new HashMap<>();
+    for (int i = 0; i < length; i++) {
+      int guessCodePoint = guessCodePoints[i];
+      if (!poolCodePoints.contains(guessCodePoint)) {
+        throw new ServiceException(
+            ServiceException.BAD_REQUEST, "Guess must only contain characters from the pool.");
+      }
+      if (guessCodePoint == code[i]) {
+        exactMatches++;
+      } else {
+        unmatchedCode.merge(code[i], 1, Integer::sum);
+        unmatchedGuess.merge(guessCodePoint, 1, Integer::sum);
+      }
+    }
+    int nearMatches = 0;
+    for (Map.Entry<Integer, Integer> entry : unmatchedGuess.entrySet()) {
+      nearMatches += Math.min(entry.getValue(), unmatchedCode.getOrDefault(entry.getKey(), 0));
+    }
+    boolean solution = (exactMatches == length);
+    Guess guess = new Guess(guessId, created, exactMatches, nearMatches, solution)
+        .text(text);
+    guesses.add(guess);
+    guessesById.put(guessId, guess);
+    solved = solution;
+    return guess;
+  }
+
+  /**
+   * Returns the guess with the specified ID, or {@code null} if there is no such guess in this
+   * game.
+   */
+  Guess getGuess(String guessId) {
+    return guessesById.get(guessId);
+  }
+
+  /**
+   * Returns a snapshot of the full representation of this game, including the secret code if the
+   * game has been solved.
+   */
+  Game toGame() {
+    String text = solved ? new String(code, 0, code.length) : null;
+    return new Game(id, created, solved, text, new ArrayList<>(guesses))
+        .pool(pool)
+        .length(length);
+  }
+
+  /**
+   * Returns the changes to this game since the specified version.
+   *
+   * @param version Earlier version of this game, as given by {@link #getVersion()}.
+   */
+  GameDelta toDelta(int version) {
+    int since = Math.clamp(version, 0, guesses.size());
+    return new GameDelta()
+        .version(guesses.size())
+        .solved(solved)
+        .text(solved ? new String(code, 0, code.length) : null)
+        .guesses(new ArrayList<>(guesses.subList(since, guesses.size())));
+  }
+
+  /**
+   * Returns a snapshot of the status representation of this game.
+   */
+  GameStatus toStatus() {
+    return new GameStatus()
+        .id(id)
+        .created(created)
+        .pool(pool)
+        .length(length)
+        .solved(solved)
+        .guessCount(guesses.size())
+        .lastGuess(guesses.isEmpty() ? null : guesses.getLast());
+  }
+
+}
@@ -0,0 +1,22 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/**
+ * Contains a lightweight HTTP server implementing every operation of the Codebreaker Solitaire API
+ * against an in-memory game store. The server can be run on its own (via
+ * {@link edu.cnm.deepdive.codebreaker.server.ReferenceServer#main(String[])}), or embedded in a
+ * test or benchmark harness.
+ */
+package edu.cnm.deepdive.codebreaker.server;
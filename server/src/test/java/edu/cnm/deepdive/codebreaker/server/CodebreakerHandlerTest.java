@@ -0,0 +1,295 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.GameDelta;
+import edu.cnm.deepdive.codebreaker.api.model.GamePage;
+import edu.cnm.deepdive.codebreaker.api.model.GameStatus;
+import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Exercises {@link CodebreakerHandler} through a running {@link ReferenceServer}, checking the
+ * status codes, headers, and bodies of complete HTTP round trips.
+ */
+class CodebreakerHandlerTest {
+
+  private static final String PORT_KEY = "port";
+  private static final String EPHEMERAL_PORT = "0";
+  private static final String POOL = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  private static final String OTHER_POOL = "0123456789";
+  // Long enough that a fixed guess is, for practical purposes, never the solution.
+  private static final int CODE_LENGTH = 20;
+  private static final String UNKNOWN_ID = "no-such-game";
+  // Percent-encoded slashes, spaces and control characters, and an overlong ID.
+  private static final List<String> MALFORMED_IDS =
+      List.of("a%2Fb", "not%20an%20id", "%00", "x".repeat(1_000));
+  private static final String ETAG_HEADER = "ETag";
+  private static final String IF_MATCH_HEADER = "If-Match";
+  private static final String SERVER_TIMING_HEADER = "Server-Timing";
+  private static final String CONTENT_TYPE_HEADER = "Content-Type";
+  private static final String JSON_CONTENT_TYPE = "application/json";
+  private static final int OK = 200;
+  private static final int CREATED = 201;
+  private static final int NO_CONTENT = 204;
+
+  private final Gson gson = new GsonBuilder()
+      .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())
+      .create();
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  private ReferenceServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    Properties properties = ReferenceServer.loadProperties();
+    properties.setProperty(PORT_KEY, EPHEMERAL_PORT);
+    server = new ReferenceServer(properties);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  void listGames_pagesMostRecentFirst() throws Exception {
+    Game first = startGame(POOL);
+    Game second = startGame(POOL);
+    Game third = startGame(POOL);
+    HttpResponse<String> response = send("GET", "games?limit=2", null, null);
+    assertEquals(OK, response.statusCode());
+    GamePage page = gson.fromJson(response.body(), GamePage.class);
+    assertEquals(List.of(third.getId(), second.getId()), idsOf(page.getGames()));
+    assertNotNull(page.getNextCursor());
+    page = gson.fromJson(
+        send("GET", "games?limit=2&cursor=" + page.getNextCursor(), null, null).body(),
+        GamePage.class);
+    assertEquals(List.of(first.getId()), idsOf(page.getGames()));
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void listGames_invalidLimitOrCursor_failsWithBadRequest() throws Exception {
+    assertEquals(
+        ServiceException.BAD_REQUEST, send("GET", "games?limit=0", null, null).statusCode());
+    assertEquals(
+        ServiceException.BAD_REQUEST, send("GET", "games?limit=many", null, null).statusCode());
+    assertEquals(
+        ServiceException.BAD_REQUEST, send("GET", "games?cursor=%21", null, null).statusCode());
+  }
+
+  @Test
+  void listGames_filtered_returnsOnlyMatchingGames() throws Exception {
+    Game letters = startGame(POOL);
+    Game digits = startGame(OTHER_POOL);
+    GamePage page = gson.fromJson(
+        send("GET", "games?solved=false&pool=" + OTHER_POOL, null, null).body(), GamePage.class);
+    assertEquals(List.of(digits.getId()), idsOf(page.getGames()));
+    page = gson.fromJson(
+        send("GET", "games?length=" + CODE_LENGTH + "&pool=" + POOL, null, null).body(),
+        GamePage.class);
+    assertEquals(List.of(letters.getId()), idsOf(page.getGames()));
+    page = gson.fromJson(send("GET", "games?solved=true", null, null).body(), GamePage.class);
+    assertEquals(List.of(), idsOf(page.getGames()));
+  }
+
+  @Test
+  void getGames_byIds_ignoresUnknownIds() throws Exception {
+    Game first = startGame(POOL);
+    startGame(POOL);
+    Game third = startGame(POOL);
+    String ids = String.join(",", first.getId(), UNKNOWN_ID, third.getId());
+    HttpResponse<String> response = send("GET", "games?ids=" + ids, null, null);
+    assertEquals(OK, response.statusCode());
+    GamePage page = gson.fromJson(response.body(), GamePage.class);
+    assertEquals(List.of(third.getId(), first.getId()), idsOf(page.getGames()));
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void deleteGames_byIds_deletesOnlyThoseGames() throws Exception {
+    Game first = startGame(POOL);
+    Game second = startGame(POOL);
+    Game third = startGame(POOL);
+    String ids = String.join(",", first.getId(), third.getId(), UNKNOWN_ID);
+    assertEquals(NO_CONTENT, send("DELETE", "games?ids=" + ids, null, null).statusCode());
+    assertEquals(
+        ServiceException.NOT_FOUND, send("GET", "games/" + first.getId(), null, null).statusCode());
+    assertEquals(
+        ServiceException.NOT_FOUND, send("GET", "games/" + third.getId(), null, null).statusCode());
+    assertEquals(OK, send("GET", "games/" + second.getId(), null, null).statusCode());
+  }
+
+  @Test
+  void deleteGames_withoutFilter_failsWithBadRequest() throws Exception {
+    Game game = startGame(POOL);
+    assertEquals(ServiceException.BAD_REQUEST, send("DELETE", "games", null, null).statusCode());
+    assertEquals(OK, send("GET", "games/" + game.getId(), null, null).statusCode());
+  }
+
+  @Test
+  void getStatus_tracksGuessCount() throws Exception {
+    Game game = startGame(POOL);
+    String path = "games/" + game.getId() + "/status";
+    HttpResponse<String> response = send("GET", path, null, null);
+    assertEquals(OK, response.statusCode());
+    assertEquals("\"0\"", response.headers().firstValue(ETAG_HEADER).orElse(null));
+    assertNotNull(response.headers().firstValue(SERVER_TIMING_HEADER).orElse(null));
+    GameStatus status = gson.fromJson(response.body(), GameStatus.class);
+    assertEquals(game.getId(), status.getId());
+    assertEquals(0, status.getGuessCount());
+    assertNull(status.getLastGuess());
+    Guess guess = submitGuess(game, null);
+    response = send("GET", path, null, null);
+    assertEquals("\"1\"", response.headers().firstValue(ETAG_HEADER).orElse(null));
+    status = gson.fromJson(response.body(), GameStatus.class);
+    assertEquals(1, status.getGuessCount());
+    assertEquals(guess.getId(), status.getLastGuess().getId());
+  }
+
+  @Test
+  void unknownResources_failWithNotFound() throws Exception {
+    Game game = startGame(POOL);
+    List<String> paths = List.of(
+        "games/" + UNKNOWN_ID,
+        "games/" + UNKNOWN_ID + "/status",
+        "games/" + game.getId() + "/guesses/" + UNKNOWN_ID,
+        "games/" + game.getId() + "/moves"
+    );
+    for (String path : paths) {
+      HttpResponse<String> response = send("GET", path, null, null);
+      assertEquals(ServiceException.NOT_FOUND, response.statusCode(), path);
+      assertEquals(JSON_CONTENT_TYPE,
+          response.headers().firstValue(CONTENT_TYPE_HEADER).orElse(null), path);
+    }
+    assertEquals(ServiceException.NOT_FOUND,
+        send("DELETE", "games/" + UNKNOWN_ID, null, null).statusCode());
+  }
+
+  @Test
+  void malformedIds_failWithNotFound() throws Exception {
+    Game game = startGame(POOL);
+    for (String id : MALFORMED_IDS) {
+      assertEquals(
+          ServiceException.NOT_FOUND, send("GET", "games/" + id, null, null).statusCode(), id);
+      assertEquals(ServiceException.NOT_FOUND,
+          send("GET", "games/" + id + "/status", null, null).statusCode(), id);
+      assertEquals(ServiceException.NOT_FOUND,
+          send("GET", "games/" + game.getId() + "/guesses/" + id, null, null).statusCode(), id);
+      assertEquals(
+          ServiceException.NOT_FOUND, send("DELETE", "games/" + id, null, null).statusCode(), id);
+    }
+  }
+
+  @Test
+  void emptyIdLists_matchNoGames() throws Exception {
+    Game game = startGame(POOL);
+    HttpResponse<String> response = send("GET", "games?ids=,%20,", null, null);
+    assertEquals(OK, response.statusCode());
+    assertEquals(List.of(), idsOf(gson.fromJson(response.body(), GamePage.class).getGames()));
+    assertEquals(NO_CONTENT, send("DELETE", "games?ids=,", null, null).statusCode());
+    assertEquals(OK, send("GET", "games/" + game.getId(), null, null).statusCode());
+  }
+
+  @Test
+  void submitGuess_staleIfMatch_failsWithPreconditionFailed() throws Exception {
+    Game game = startGame(POOL);
+    Guess accepted = submitGuess(game, "\"0\"");
+    HttpResponse<String> response = send("POST", "games/" + game.getId() + "/guesses",
+        BodyPublishers.ofString(gson.toJson(newGuess())), "\"0\"");
+    assertEquals(ServiceException.PRECONDITION_FAILED, response.statusCode());
+    assertEquals("\"1\"", response.headers().firstValue(ETAG_HEADER).orElse(null));
+    GameDelta delta = gson.fromJson(response.body(), GameDelta.class);
+    assertEquals(1, delta.getVersion());
+    assertEquals(List.of(accepted.getId()), guessIdsOf(delta.getGuesses()));
+  }
+
+  @Test
+  void submitGuess_malformedIfMatch_failsWithBadRequest() throws Exception {
+    Game game = startGame(POOL);
+    HttpResponse<String> response = send("POST", "games/" + game.getId() + "/guesses",
+        BodyPublishers.ofString(gson.toJson(newGuess())), "0");
+    assertEquals(ServiceException.BAD_REQUEST, response.statusCode());
+  }
+
+  private Game startGame(String pool) throws IOException, InterruptedException {
+    HttpResponse<String> response = send("POST", "games",
+        BodyPublishers.ofString(gson.toJson(new Game().pool(pool).length(CODE_LENGTH))), null);
+    assertEquals(CREATED, response.statusCode());
+    return gson.fromJson(response.body(), Game.class);
+  }
+
+  private Guess submitGuess(Game game, String ifMatch) throws IOException, InterruptedException {
+    HttpResponse<String> response = send("POST", "games/" + game.getId() + "/guesses",
+        BodyPublishers.ofString(gson.toJson(newGuess())), ifMatch);
+    assertEquals(CREATED, response.statusCode());
+    return gson.fromJson(response.body(), Guess.class);
+  }
+
+  private HttpResponse<String> send(String method, String path, BodyPublisher body, String ifMatch)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(server.getBaseUrl() + path))
+        .method(method, (body != null) ? body : BodyPublishers.noBody());
+    if (body != null) {
+      builder.header(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE);
+    }
+    if (ifMatch != null) {
+      builder.header(IF_MATCH_HEADER, ifMatch);
+    }
+    return client.send(builder.build(), BodyHandlers.ofString());
+  }
+
+  private static Guess newGuess() {
+    return new Guess().text("A".repeat(CODE_LENGTH));
+  }
+
+  private static List<String> idsOf(List<Game> games) {
+    return games
+        .stream()
+        .map(Game::getId)
+        .toList();
+  }
+
+  private static List<String> guessIdsOf(List<Guess> guesses) {
+    return guesses
+        .stream()
+        .map(Guess::getId)
+        .toList();
+  }
+
+}
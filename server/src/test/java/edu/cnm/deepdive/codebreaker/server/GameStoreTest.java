@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2026 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.cnm.deepdive.codebreaker.api.model.Game;
+import edu.cnm.deepdive.codebreaker.api.model.GameDelta;
+import edu.cnm.deepdive.codebreaker.api.model.Guess;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameStoreTest {
+
+  private static final int LOCK_STRIPES = 4;
+  private static final String POOL = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  // Long enough that a fixed guess is, for practical purposes, never the solution.
+  private static final int CODE_LENGTH = 20;
+
+  private GameStore store;
+  private String gameId;
+
+  @BeforeEach
+  void setUp() {
+    store = new GameStore(LOCK_STRIPES);
+    gameId = store
+        .start(new Game().pool(POOL).length(CODE_LENGTH))
+        .getId();
+  }
+
+  @Test
+  void submitGuess_withoutExpectedVersion_acceptsEveryGuess() {
+    store.submitGuess(gameId, newGuess(), null);
+    store.submitGuess(gameId, newGuess(), null);
+    assertEquals(2, store.get(gameId).getGuesses().size());
+  }
+
+  @Test
+  void submitGuess_atCurrentVersion_acceptsGuess() {
+    store.submitGuess(gameId, newGuess(), 0);
+    store.submitGuess(gameId, newGuess(), 1);
+    assertEquals(2, store.get(gameId).getGuesses().size());
+  }
+
+  @Test
+  void submitGuess_atStaleVersion_failsWithChangesSinceThatVersion() {
+    Guess first = store.submitGuess(gameId, newGuess(), null);
+    Guess second = store.submitGuess(gameId, newGuess(), null);
+    ServiceException exception =
+        assertThrows(ServiceException.class, () -> store.submitGuess(gameId, newGuess(), 1));
+    assertEquals(ServiceException.PRECONDITION_FAILED, exception.getStatus());
+    GameDelta delta = assertInstanceOf(GameDelta.class, exception.getBody());
+    assertEquals(2, delta.getVersion());
+    assertEquals(Boolean.FALSE, delta.getSolved());
+    assertEquals(List.of(second.getId()), idsOf(delta.getGuesses()));
+    assertEquals(List.of(first.getId(), second.getId()), idsOf(store.get(gameId).getGuesses()));
+  }
+
+  @Test
+  void submitGuess_atFutureVersion_failsWithNoChanges() {
+    store.submitGuess(gameId, newGuess(), null);
+    ServiceException exception =
+        assertThrows(ServiceException.class, () -> store.submitGuess(gameId, newGuess(), 5));
+    assertEquals(ServiceException.PRECONDITION_FAILED, exception.getStatus());
+    GameDelta delta = assertInstanceOf(GameDelta.class, exception.getBody());
+    assertEquals(1, delta.getVersion());
+    assertEquals(List.of(), delta.getGuesses());
+    assertEquals(1, store.get(gameId).getGuesses().size());
+  }
+
+  @Test
+  void submitGuess_unknownGame_failsWithNotFound() {
+    ServiceException exception = assertThrows(ServiceException.class,
+        () -> store.submitGuess("no-such-game", newGuess(), 0));
+    assertEquals(ServiceException.NOT_FOUND, exception.getStatus());
+  }
+
+  private static Guess newGuess() {
+    return new Guess().text("A".repeat(CODE_LENGTH));
+  }
+
+  private static List<String> idsOf(List<Guess> guesses) {
+    return guesses
+        .stream()
+        .map(Guess::getId)
+        .toList();
+  }
+
+}
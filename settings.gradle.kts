@@ -34,9 +34,12 @@ dependencyResolutionManagement {
     versionCatalogs {
         create("libs") {
             from("edu.cnm.deepdive:catalog-jdk21:22.0.2")
+            library("kotlinx-coroutines-core", "org.jetbrains.kotlinx", "kotlinx-coroutines-core")
+                .version("1.10.2")
+            plugin("jmh", "me.champeau.jmh").version("0.7.3")
         }
     }
 }
 
 rootProject.name = "codebreaker-solitaire"
-include(":api", ":client",":javafx", "app")
\ No newline at end of file
+include(":api", ":client",":javafx", "app", ":server", ":loadgen", ":benchmarks")
\ No newline at end of file